@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.climateConditions.ConditionModifier;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single seasonal climate query, with the per-quantum snapshot enabled and disabled.
+ * <p>
+ * Each invocation queries a different block, as world generation would, while the world time stays within one
+ * snapshot quantum.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClimateSnapshotBenchmark {
+    private static final int CHUNK_SURFACE = 32 * 32;
+
+    @Param({"true", "false"})
+    private boolean snapshot;
+
+    private SeasonSystem seasonSystem;
+    private float[] chunkSurface;
+    private ConditionModifier temperature;
+    private ConditionModifier humidity;
+    private float x;
+
+    @Setup
+    public void setup() {
+        StubWorldTime worldTime = new StubWorldTime();
+        worldTime.setDays(37.3f);
+        CapturingClimateConditionsSystem climate = new CapturingClimateConditionsSystem();
+
+        seasonSystem = new SeasonSystem();
+        seasonSystem.bind(worldTime, climate);
+        seasonSystem.setClimateSnapshotEnabled(snapshot);
+        seasonSystem.preBegin();
+
+        temperature = climate.getTemperatureModifier();
+        humidity = climate.getHumidityModifier();
+        chunkSurface = new float[CHUNK_SURFACE];
+    }
+
+    @Benchmark
+    public float temperatureQuery() {
+        x += 1;
+        return temperature.getCondition(20f, x, 64f, 0f);
+    }
+
+    @Benchmark
+    public float humidityQuery() {
+        x += 1;
+        return humidity.getCondition(0.5f, x, 64f, 0f);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SURFACE)
+    public float[] humidityChunkSurfacePerBlock() {
+        for (int i = 0; i < chunkSurface.length; i++) {
+            chunkSurface[i] = humidity.getCondition(0.5f, i, 64f, 0f);
+        }
+        return chunkSurface;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SURFACE)
+    public float[] humidityChunkSurfaceBulk() {
+        Arrays.fill(chunkSurface, 0.5f);
+        seasonSystem.applySeasonalAdjustment(ClimateChannel.HUMIDITY, chunkSurface);
+        return chunkSurface;
+    }
+}
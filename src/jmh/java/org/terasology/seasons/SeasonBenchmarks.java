@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the season benchmarks with the GC profiler attached, reporting latency, throughput and allocation rate.
+ * <p>
+ * The benchmarks only use stub world time and climate systems, so they run without an engine. An optional regular
+ * expression as first argument selects a subset of the benchmarks, e.g. {@code SeasonLookup}. The workspace build
+ * doesn't compile this source set by default; {@code src/jmh/README.md} describes how to enable it.
+ */
+public final class SeasonBenchmarks {
+
+    private SeasonBenchmarks() {
+        // Empty private constructor for utility class
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : SeasonBenchmarks.class.getPackage().getName() + ".*Benchmark";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
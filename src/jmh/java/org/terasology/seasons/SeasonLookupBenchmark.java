@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the static day and season lookups on {@link Season}.
+ * <p>
+ * The day advances on every invocation, so the lookups can't be hoisted out of the measurement loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeasonLookupBenchmark {
+    private int day = -100_000;
+    private double time = -100_000.25;
+    private Season season = Season.SPRING;
+
+    @Benchmark
+    public Season onDayInt() {
+        return Season.onDay(day++);
+    }
+
+    @Benchmark
+    public Season onDayDouble() {
+        time += 0.37;
+        return Season.onDay(time);
+    }
+
+    @Benchmark
+    public int dayOfSeason() {
+        return Season.dayOfSeason(day++);
+    }
+
+    @Benchmark
+    public int dayOfCycle() {
+        return Season.dayOfCycle(day++);
+    }
+
+    @Benchmark
+    public int packedOnDay() {
+        return Season.packedOnDay(day++);
+    }
+
+    @Benchmark
+    public Season next() {
+        season = season.next();
+        return season;
+    }
+
+    @Benchmark
+    public Season previous() {
+        season = season.previous();
+        return season;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.climateConditions.ConditionModifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the climate modifiers and day description of {@link SeasonSystem}, running on stub world time and climate
+ * systems with the default configuration.
+ * <p>
+ * The world time advances by a bit more than one snapshot quantum per invocation, so the climate modifiers see the
+ * snapshot refresh on every update as they would on a busy server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeasonSystemBenchmark {
+    private StubWorldTime worldTime;
+    private SeasonSystem seasonSystem;
+    private ConditionModifier temperature;
+    private ConditionModifier humidity;
+    private float x;
+
+    @Setup
+    public void setup() {
+        worldTime = new StubWorldTime();
+        worldTime.setDays(37.3f);
+        CapturingClimateConditionsSystem climate = new CapturingClimateConditionsSystem();
+
+        seasonSystem = new SeasonSystem();
+        seasonSystem.bind(worldTime, climate);
+        seasonSystem.preBegin();
+
+        temperature = climate.getTemperatureModifier();
+        humidity = climate.getHumidityModifier();
+    }
+
+    @Benchmark
+    public float temperatureModifier() {
+        x += 1;
+        return temperature.getCondition(20f, x, 64f, x);
+    }
+
+    @Benchmark
+    public float humidityModifier() {
+        x += 1;
+        return humidity.getCondition(0.5f, x, 64f, x);
+    }
+
+    @Benchmark
+    public float updateAndQuery() {
+        worldTime.setMilliseconds(worldTime.getMilliseconds() + SeasonSystem.DEFAULT_SNAPSHOT_QUANTUM + 1);
+        seasonSystem.update(0.016f);
+        return temperature.getCondition(20f, 0f, 64f, 0f);
+    }
+
+    @Benchmark
+    public String seasonDayDescription() {
+        return seasonSystem.getSeasonDayDescription();
+    }
+}
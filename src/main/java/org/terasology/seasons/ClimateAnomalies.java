@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.world.time.WorldTime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Derives a deterministic {@link ClimateAnomaly} for every year from a seed and the year index, so the same world has
+ * the same harsh winters and dry summers after every restart.
+ * <p>
+ * Anomalies are computed on first use and kept in a small LRU cache. Around new year the anomalies of both years are
+ * blended, see {@link #at(long, SeasonCalendar, float)}. They are looked up when a {@link SeasonState} is published,
+ * which keeps the result, so climate queries never get here.
+ */
+public final class ClimateAnomalies {
+    /**
+     * No variation: every year is an average year.
+     */
+    public static final ClimateAnomalies NONE = new ClimateAnomalies(0, 0, 0, 0, 0);
+
+    /**
+     * How many years are cached at most.
+     */
+    public static final int CACHE_SIZE = 16;
+
+    static final float DEFAULT_TEMPERATURE_SCALE_VARIATION = 0.2f;
+    static final float DEFAULT_TEMPERATURE_BIAS_VARIATION = 2f;
+    static final float DEFAULT_HUMIDITY_SCALE_VARIATION = 0.2f;
+    static final float DEFAULT_HUMIDITY_BIAS_VARIATION = 0.05f;
+
+    private final long seed;
+    private final float temperatureScaleVariation;
+    private final float temperatureBiasVariation;
+    private final float humidityScaleVariation;
+    private final float humidityBiasVariation;
+    private final boolean varies;
+
+    private final Map<Long, ClimateAnomaly> cache = new LinkedHashMap<Long, ClimateAnomaly>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ClimateAnomaly> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * @param seed The seed the anomalies are derived from
+     * @param temperatureScaleVariation How much the temperature amplitude may deviate, as a fraction of it
+     * @param temperatureBiasVariation How much the temperature may be shifted, in degrees
+     * @param humidityScaleVariation How much the humidity amplitude may deviate, as a fraction of it
+     * @param humidityBiasVariation How much the humidity may be shifted
+     */
+    public ClimateAnomalies(long seed, float temperatureScaleVariation, float temperatureBiasVariation,
+                            float humidityScaleVariation, float humidityBiasVariation) {
+        this.seed = seed;
+        this.temperatureScaleVariation = temperatureScaleVariation;
+        this.temperatureBiasVariation = temperatureBiasVariation;
+        this.humidityScaleVariation = humidityScaleVariation;
+        this.humidityBiasVariation = humidityBiasVariation;
+        this.varies = temperatureScaleVariation != 0 || temperatureBiasVariation != 0
+                || humidityScaleVariation != 0 || humidityBiasVariation != 0;
+    }
+
+    /**
+     * Creates anomalies with the default variation: amplitudes vary by up to 20%, temperature shifts by up to 2 degrees
+     * and humidity by up to 0.05.
+     *
+     * @param seed The seed the anomalies are derived from
+     * @return The climate anomalies
+     */
+    public static ClimateAnomalies withDefaults(long seed) {
+        return new ClimateAnomalies(seed, DEFAULT_TEMPERATURE_SCALE_VARIATION, DEFAULT_TEMPERATURE_BIAS_VARIATION,
+                DEFAULT_HUMIDITY_SCALE_VARIATION, DEFAULT_HUMIDITY_BIAS_VARIATION);
+    }
+
+    /**
+     * Turns a world seed into an anomaly seed.
+     *
+     * @param worldSeed The seed of the world
+     * @return The anomaly seed
+     */
+    public static long seedOf(String worldSeed) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < worldSeed.length(); i++) {
+            hash = 31 * hash + worldSeed.charAt(i);
+        }
+        return mix(hash);
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public float temperatureScaleVariation() {
+        return temperatureScaleVariation;
+    }
+
+    public float temperatureBiasVariation() {
+        return temperatureBiasVariation;
+    }
+
+    public float humidityScaleVariation() {
+        return humidityScaleVariation;
+    }
+
+    public float humidityBiasVariation() {
+        return humidityBiasVariation;
+    }
+
+    /**
+     * @return Whether the climate differs between years at all
+     */
+    public boolean varies() {
+        return varies;
+    }
+
+    /**
+     * @param other Other climate anomalies
+     * @return Whether both derive the same anomaly for every year
+     */
+    public boolean sameAs(ClimateAnomalies other) {
+        if (!varies || !other.varies) {
+            return varies == other.varies;
+        }
+        return seed == other.seed
+                && temperatureScaleVariation == other.temperatureScaleVariation
+                && temperatureBiasVariation == other.temperatureBiasVariation
+                && humidityScaleVariation == other.humidityScaleVariation
+                && humidityBiasVariation == other.humidityBiasVariation;
+    }
+
+    /**
+     * Returns the anomaly of a year.
+     *
+     * @param year The year index, i.e. the absolute day divided by the length of the year
+     * @return The anomaly of that year
+     */
+    public ClimateAnomaly forYear(long year) {
+        if (!varies) {
+            return ClimateAnomaly.NONE;
+        }
+        synchronized (cache) {
+            ClimateAnomaly anomaly = cache.get(year);
+            if (anomaly == null) {
+                anomaly = compute(year);
+                cache.put(year, anomaly);
+            }
+            return anomaly;
+        }
+    }
+
+    /**
+     * Returns the anomaly at a moment. Like seasons around a season transition, the anomalies of two years blend within
+     * half the transition window on either side of new year, reaching an even blend at midnight, so the climate doesn't
+     * jump when the year changes.
+     *
+     * @param ticks The time in milliseconds
+     * @param calendar The calendar that determines the length of the year
+     * @param transitionWindow The length of the transition window in days; 0 to switch at midnight
+     * @return The anomaly at that moment
+     */
+    public ClimateAnomaly at(long ticks, SeasonCalendar calendar, float transitionWindow) {
+        if (!varies) {
+            return ClimateAnomaly.NONE;
+        }
+        long year = SeasonTime.yearOf(ticks, calendar);
+        ClimateAnomaly anomaly = forYear(year);
+        long yearLength = SeasonTime.yearLength(calendar);
+        double halfWindow = Math.min(transitionWindow / 2.0 * WorldTime.DAY_LENGTH, yearLength / 2.0);
+        if (halfWindow > 0) {
+            long timeInYear = ticks - SeasonTime.startOfDay(Math.toIntExact(year * calendar.yearLength()));
+            if (timeInYear < halfWindow) {
+                return anomaly.blend(forYear(year - 1), (float) (0.5 * (1 - timeInYear / halfWindow)));
+            }
+            long timeLeft = yearLength - timeInYear;
+            if (timeLeft < halfWindow) {
+                return anomaly.blend(forYear(year + 1), (float) (0.5 * (1 - timeLeft / halfWindow)));
+            }
+        }
+        return anomaly;
+    }
+
+    private ClimateAnomaly compute(long year) {
+        long state = mix(seed ^ mix(year));
+        state = mix(state);
+        float temperatureScale = 1 + temperatureScaleVariation * signedUnit(state);
+        state = mix(state);
+        float temperatureBias = temperatureBiasVariation * signedUnit(state);
+        state = mix(state);
+        float humidityScale = 1 + humidityScaleVariation * signedUnit(state);
+        state = mix(state);
+        float humidityBias = humidityBiasVariation * signedUnit(state);
+        return new ClimateAnomaly(temperatureScale, temperatureBias, humidityScale, humidityBias);
+    }
+
+    /**
+     * The SplitMix64 finalizer; a fixed, well-distributed hash that doesn't depend on the JVM.
+     */
+    private static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Maps the top 24 bits of a hash to [-1, 1).
+     */
+    private static float signedUnit(long hash) {
+        return (hash >>> 40) / (float) (1 << 23) - 1f;
+    }
+}
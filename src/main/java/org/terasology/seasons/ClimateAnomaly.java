@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+/**
+ * How the seasonal climate of one particular year deviates from the average year, e.g. a harsh winter or a dry summer.
+ * <p>
+ * The seasonal curves are scaled and shifted: {@code scale * curve(t) + bias}.
+ */
+public final class ClimateAnomaly {
+    /**
+     * An average year.
+     */
+    public static final ClimateAnomaly NONE = new ClimateAnomaly(1, 0, 1, 0);
+
+    private final float temperatureScale;
+    private final float temperatureBias;
+    private final float humidityScale;
+    private final float humidityBias;
+
+    public ClimateAnomaly(float temperatureScale, float temperatureBias, float humidityScale, float humidityBias) {
+        this.temperatureScale = temperatureScale;
+        this.temperatureBias = temperatureBias;
+        this.humidityScale = humidityScale;
+        this.humidityBias = humidityBias;
+    }
+
+    /**
+     * @param seasonalOffset The seasonal temperature offset of the average year
+     * @return The seasonal temperature offset of this year
+     */
+    public float temperature(float seasonalOffset) {
+        return temperatureScale * seasonalOffset + temperatureBias;
+    }
+
+    /**
+     * @param seasonalOffset The seasonal humidity offset of the average year
+     * @return The seasonal humidity offset of this year
+     */
+    public float humidity(float seasonalOffset) {
+        return humidityScale * seasonalOffset + humidityBias;
+    }
+
+    /**
+     * @param other Another anomaly
+     * @param otherWeight The weight of the other anomaly, in [0, 1]
+     * @return The weighted average of both anomalies
+     */
+    public ClimateAnomaly blend(ClimateAnomaly other, float otherWeight) {
+        float weight = 1 - otherWeight;
+        return new ClimateAnomaly(weight * temperatureScale + otherWeight * other.temperatureScale,
+                weight * temperatureBias + otherWeight * other.temperatureBias,
+                weight * humidityScale + otherWeight * other.humidityScale,
+                weight * humidityBias + otherWeight * other.humidityBias);
+    }
+
+    public float temperatureScale() {
+        return temperatureScale;
+    }
+
+    public float temperatureBias() {
+        return temperatureBias;
+    }
+
+    public float humidityScale() {
+        return humidityScale;
+    }
+
+    public float humidityBias() {
+        return humidityBias;
+    }
+}
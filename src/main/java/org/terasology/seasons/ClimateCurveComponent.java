@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.seasons.curves.CompiledSeasonCurve;
+import org.terasology.seasons.curves.SeasonCurve;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes how the seasons adjust the climate over the year, as keyframes over the progress through the year.
+ * <p>
+ * Added to the world entity, it sets the curves of that world, and changing it there swaps them while the game runs.
+ * Otherwise the curves of a {@code Seasons:climateCurves} prefab are used, if a module provides one. A channel without
+ * keyframes keeps its built-in curve, so the climate only changes when a designer configures it. The
+ * {@code Seasons:climateCurvesExample} prefab approximates the built-in curves and is meant as a starting point; it
+ * isn't applied to any world.
+ */
+public class ClimateCurveComponent implements Component<ClimateCurveComponent> {
+    /**
+     * The keyframes of the temperature offset, in the order they occur in a year
+     */
+    public List<SeasonCurveKeyframe> temperature = new ArrayList<>();
+
+    /**
+     * The keyframes of the humidity offset, in the order they occur in a year
+     */
+    public List<SeasonCurveKeyframe> humidity = new ArrayList<>();
+
+    /**
+     * Compiles the keyframes of a channel. Keyframes without a tangent get a Catmull-Rom tangent.
+     *
+     * @param channel The climate channel
+     * @return The compiled curve, or null if the channel has no keyframes
+     */
+    public SeasonCurve compile(ClimateChannel channel) {
+        List<SeasonCurveKeyframe> keyframes = channel == ClimateChannel.TEMPERATURE ? temperature : humidity;
+        if (keyframes.isEmpty()) {
+            return null;
+        }
+        int n = keyframes.size();
+        float[] times = new float[n];
+        float[] values = new float[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = keyframes.get(i).time;
+            values[i] = keyframes.get(i).value;
+        }
+        float[] tangents = CompiledSeasonCurve.tangents(times, values);
+        for (int i = 0; i < n; i++) {
+            Float tangent = keyframes.get(i).tangent;
+            if (tangent != null) {
+                tangents[i] = tangent;
+            }
+        }
+        return CompiledSeasonCurve.compile(times, values, tangents);
+    }
+
+    @Override
+    public void copyFrom(ClimateCurveComponent other) {
+        temperature = copy(other.temperature);
+        humidity = copy(other.humidity);
+    }
+
+    private static List<SeasonCurveKeyframe> copy(List<SeasonCurveKeyframe> keyframes) {
+        List<SeasonCurveKeyframe> result = new ArrayList<>();
+        for (SeasonCurveKeyframe keyframe : keyframes) {
+            result.add(new SeasonCurveKeyframe(keyframe));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.utilities.StringUtility;
+
+import java.util.Locale;
+
+/**
+ * The pre-rendered descriptions of every day of the year of a calendar.
+ */
+final class DayDescriptions {
+    private final SeasonCalendar calendar;
+    private final Locale locale;
+    private final String[] descriptions;
+
+    DayDescriptions(SeasonCalendar calendar, Locale locale) {
+        this.calendar = calendar;
+        this.locale = locale;
+        this.descriptions = new String[calendar.yearLength()];
+        for (int day = 0; day < descriptions.length; day++) {
+            int packedDay = calendar.packedOnDay(day);
+            int s = SeasonCalendar.seasonIndexOf(packedDay);
+            int d = SeasonCalendar.dayOfSeasonOf(packedDay);
+            descriptions[day] = String.format(locale, "%s day of %s", StringUtility.toOrdinalString(d + 1), calendar.displayName(s));
+        }
+    }
+
+    boolean describes(SeasonCalendar otherCalendar, Locale otherLocale) {
+        return calendar == otherCalendar && locale.equals(otherLocale);
+    }
+
+    String describe(int day) {
+        return descriptions[calendar.dayOfYear(day)];
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+/**
+ * Describes how the length of the day varies over the year.
+ * <p>
+ * The daylight fraction follows a cosine over the year, from the shortest day half a year after the longest one to the
+ * longest day at {@link #longestDay()}. Midday stays in the middle of the day, so sunrise and sunset move symmetrically.
+ */
+public final class DaylightModel {
+    /**
+     * Half of the day is light at the equinoxes; the longest day falls in the middle of summer of the default calendar,
+     * where the default temperature curve peaks too.
+     */
+    public static final DaylightModel DEFAULT = new DaylightModel(0.35f, 0.65f, 0.375f);
+
+    private final float shortestFraction;
+    private final float longestFraction;
+    private final float longestDay;
+
+    /**
+     * @param shortestFraction The fraction of the shortest day that is light, in [0, 1]
+     * @param longestFraction The fraction of the longest day that is light, in [shortestFraction, 1]
+     * @param longestDay The point of the year with the longest day, as progress through the year in [0, 1)
+     */
+    public DaylightModel(float shortestFraction, float longestFraction, float longestDay) {
+        if (!(shortestFraction >= 0 && shortestFraction <= longestFraction && longestFraction <= 1)) {
+            throw new IllegalArgumentException("Daylight fractions must satisfy 0 <= shortest <= longest <= 1");
+        }
+        this.shortestFraction = shortestFraction;
+        this.longestFraction = longestFraction;
+        this.longestDay = longestDay;
+    }
+
+    public float shortestFraction() {
+        return shortestFraction;
+    }
+
+    public float longestFraction() {
+        return longestFraction;
+    }
+
+    public float longestDay() {
+        return longestDay;
+    }
+
+    /**
+     * Returns the daylight fraction at a point in the year.
+     *
+     * @param yearProgress The progress through the year
+     * @return The fraction of the day that is light
+     */
+    public float daylightFraction(double yearProgress) {
+        double mean = (shortestFraction + longestFraction) / 2.0;
+        double halfRange = (longestFraction - shortestFraction) / 2.0;
+        return (float) (mean + halfRange * Math.cos(2 * Math.PI * (yearProgress - longestDay)));
+    }
+
+    /**
+     * Computes the daylight of every day of a calendar's year.
+     *
+     * @param calendar The season calendar
+     * @return The daylight table of the calendar
+     */
+    public DaylightTable compile(SeasonCalendar calendar) {
+        return new DaylightTable(this, calendar);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.world.time.WorldTime;
+
+/**
+ * The sunrise, sunset and daylight fraction of every day of a calendar's year, precomputed from a
+ * {@link DaylightModel}.
+ * <p>
+ * Times of day are fractions of the day since midnight, so midday is at 0.5. Every lookup is a floorMod plus an array
+ * load, cheap enough for the sky renderer and gameplay systems to call every frame. {@link #isDaylight} compares
+ * exact milliseconds, so it doesn't lose precision however long the world has been running.
+ */
+public final class DaylightTable {
+    private final int yearLength;
+    private final float[] fractions;
+    private final float[] sunrises;
+    private final float[] sunsets;
+    private final long[] sunriseMillis;
+    private final long[] sunsetMillis;
+
+    DaylightTable(DaylightModel model, SeasonCalendar calendar) {
+        yearLength = calendar.yearLength();
+        fractions = new float[yearLength];
+        sunrises = new float[yearLength];
+        sunsets = new float[yearLength];
+        sunriseMillis = new long[yearLength];
+        sunsetMillis = new long[yearLength];
+        for (int day = 0; day < yearLength; day++) {
+            // The length of a day is the one at its midday
+            float fraction = model.daylightFraction((day + 0.5) / yearLength);
+            fractions[day] = fraction;
+            sunrises[day] = 0.5f - fraction / 2;
+            sunsets[day] = 0.5f + fraction / 2;
+            sunriseMillis[day] = Math.round((0.5 - fraction / 2.0) * WorldTime.DAY_LENGTH);
+            sunsetMillis[day] = Math.round((0.5 + fraction / 2.0) * WorldTime.DAY_LENGTH);
+        }
+    }
+
+    /**
+     * @param day absolute day
+     * @return The fraction of that day that is light
+     */
+    public float daylightFraction(int day) {
+        return fractions[Math.floorMod(day, yearLength)];
+    }
+
+    /**
+     * @param day absolute day
+     * @return The time of sunrise on that day, as fraction of the day since midnight
+     */
+    public float sunrise(int day) {
+        return sunrises[Math.floorMod(day, yearLength)];
+    }
+
+    /**
+     * @param day absolute day
+     * @return The time of sunset on that day, as fraction of the day since midnight
+     */
+    public float sunset(int day) {
+        return sunsets[Math.floorMod(day, yearLength)];
+    }
+
+    /**
+     * @param day absolute day
+     * @return The time of sunrise on that day, in milliseconds since midnight
+     */
+    public long sunriseMillis(int day) {
+        return sunriseMillis[Math.floorMod(day, yearLength)];
+    }
+
+    /**
+     * @param day absolute day
+     * @return The time of sunset on that day, in milliseconds since midnight
+     */
+    public long sunsetMillis(int day) {
+        return sunsetMillis[Math.floorMod(day, yearLength)];
+    }
+
+    /**
+     * Tells whether the sun is up at a time of the dimension the table belongs to. For a dimension with a phase offset
+     * that is not the world time; use {@link SeasonDimension#isDaylight(long)} to look it up by world time.
+     *
+     * @param ticks The time of the dimension in milliseconds, i.e. the world time plus its phase offset
+     * @return Whether the sun is up at that time
+     */
+    public boolean isDaylight(long ticks) {
+        int dayOfYear = Math.floorMod(SeasonTime.dayOf(ticks), yearLength);
+        long timeOfDay = SeasonTime.timeOfDay(ticks);
+        return timeOfDay >= sunriseMillis[dayOfYear] && timeOfDay < sunsetMillis[dayOfYear];
+    }
+
+    /**
+     * @return The number of days in the table, the length of the calendar's year
+     */
+    public int yearLength() {
+        return yearLength;
+    }
+}
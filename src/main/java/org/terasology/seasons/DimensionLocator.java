@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+/**
+ * Tells which {@link SeasonDimension} a position belongs to, so that climate queries, which only carry a position,
+ * get the seasons of the right world.
+ */
+@FunctionalInterface
+public interface DimensionLocator {
+    /**
+     * Puts every position in the primary dimension.
+     */
+    DimensionLocator PRIMARY_ONLY = new DimensionLocator() {
+        @Override
+        public int dimensionAt(float x, float y, float z) {
+            return SeasonDimension.PRIMARY;
+        }
+    };
+
+    /**
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The id of the dimension the position belongs to; unknown ids fall back to the primary dimension
+     */
+    int dimensionAt(float x, float y, float z);
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+/**
+ * Describes how the strength and timing of the seasons vary with the distance from an equator line.
+ * <p>
+ * The equator runs along the x axis at {@link #equatorZ()}; the side with smaller z is the northern hemisphere. The
+ * distance from the equator is divided into bands of equal width, each with its own seasonal amplitude factor. The
+ * last band extends to the poles. The southern hemisphere can run half a year out of phase with the northern one.
+ */
+public final class LatitudeModel {
+    private final float equatorZ;
+    private final float bandWidth;
+    private final float inverseBandWidth;
+    private final float[] bandAmplitudes;
+    private final float southernPhase;
+
+    /**
+     * @param equatorZ The z coordinate of the equator line
+     * @param bandWidth The width of each latitude band in blocks, must be > 0
+     * @param bandAmplitudes The factor applied to the seasonal adjustment in each band, starting at the equator
+     * @param oppositeHemispheres Whether the southern hemisphere is half a year out of phase with the northern one
+     */
+    public LatitudeModel(float equatorZ, float bandWidth, float[] bandAmplitudes, boolean oppositeHemispheres) {
+        if (!(bandWidth > 0)) {
+            throw new IllegalArgumentException("Width of a latitude band must be > 0");
+        }
+        if (bandAmplitudes.length == 0) {
+            throw new IllegalArgumentException("A latitude model needs at least one band");
+        }
+        this.equatorZ = equatorZ;
+        this.bandWidth = bandWidth;
+        this.inverseBandWidth = 1f / bandWidth;
+        this.bandAmplitudes = bandAmplitudes.clone();
+        this.southernPhase = oppositeHemispheres ? 0.5f : 0f;
+    }
+
+    /**
+     * Creates a model whose amplitude rises linearly from the equator to full strength in the outermost band, with
+     * opposite seasons on both hemispheres.
+     *
+     * @param equatorZ The z coordinate of the equator line
+     * @param bandWidth The width of each latitude band in blocks
+     * @param bandCount The number of bands per hemisphere
+     * @param equatorAmplitude The amplitude factor at the equator
+     * @return The latitude model
+     */
+    public static LatitudeModel linear(float equatorZ, float bandWidth, int bandCount, float equatorAmplitude) {
+        float[] amplitudes = new float[bandCount];
+        for (int i = 0; i < bandCount; i++) {
+            float t = bandCount > 1 ? i / (float) (bandCount - 1) : 1f;
+            amplitudes[i] = equatorAmplitude + (1f - equatorAmplitude) * t;
+        }
+        return new LatitudeModel(equatorZ, bandWidth, amplitudes, true);
+    }
+
+    public float equatorZ() {
+        return equatorZ;
+    }
+
+    public float bandWidth() {
+        return bandWidth;
+    }
+
+    /**
+     * @return The number of bands per hemisphere
+     */
+    public int bandCount() {
+        return bandAmplitudes.length;
+    }
+
+    /**
+     * @param band A band index, as returned by {@link #bandIndex(float)}
+     * @return The amplitude factor of the band
+     */
+    public float bandAmplitude(int band) {
+        return bandAmplitudes[band % bandAmplitudes.length];
+    }
+
+    /**
+     * @param band A band index, as returned by {@link #bandIndex(float)}
+     * @return How far the seasons in the band are shifted into the year, in years
+     */
+    public float bandPhase(int band) {
+        return band < bandAmplitudes.length ? 0f : southernPhase;
+    }
+
+    /**
+     * @return The number of band indices, covering both hemispheres
+     */
+    public int tableSize() {
+        return 2 * bandAmplitudes.length;
+    }
+
+    /**
+     * Returns the index of the band a z coordinate falls in. Northern bands come first, followed by the southern bands.
+     *
+     * @param z The z coordinate
+     * @return The band index, in [0, {@link #tableSize()})
+     */
+    public int bandIndex(float z) {
+        float distance = z - equatorZ;
+        int band = (int) (Math.abs(distance) * inverseBandWidth);
+        if (band >= bandAmplitudes.length) {
+            band = bandAmplitudes.length - 1;
+        }
+        return distance > 0 ? band + bandAmplitudes.length : band;
+    }
+}
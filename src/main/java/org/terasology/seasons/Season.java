@@ -31,6 +31,15 @@ public enum Season {
      */
     public static final int YEAR_LENGTH_IN_DAYS;
 
+    private static final Season[] VALUES = values();
+    private static final int DAY_OF_SEASON_BITS = 16;
+    private static final int DAY_OF_SEASON_MASK = (1 << DAY_OF_SEASON_BITS) - 1;
+
+    /**
+     * Season ordinal and day of season for every day of the year, packed as in {@link #packedOnDay(int)}.
+     */
+    private static final int[] PACKED_DAYS;
+
     private final String displayName;
     private final int lengthInDays;
     private int firstDay;
@@ -46,11 +55,20 @@ public enum Season {
 
 
     static {
-        Season[] season = values();
-        season[0].firstDay = 0;
+        VALUES[0].firstDay = 0;
 
-        for (int i = 1; i < season.length; i++) {
-            season[i].firstDay = season[i - 1].firstDay + season[i - 1].lengthInDays;
+        for (int i = 1; i < VALUES.length; i++) {
+            VALUES[i].firstDay = VALUES[i - 1].firstDay + VALUES[i - 1].lengthInDays;
+        }
+
+        Season lastSeason = VALUES[VALUES.length - 1];
+        YEAR_LENGTH_IN_DAYS = lastSeason.lastDay() + 1;
+
+        PACKED_DAYS = new int[YEAR_LENGTH_IN_DAYS];
+        for (Season season : VALUES) {
+            for (int day = season.firstDay; day <= season.lastDay(); day++) {
+                PACKED_DAYS[day] = (season.ordinal() << DAY_OF_SEASON_BITS) | (day - season.firstDay);
+            }
         }
     }
 
@@ -78,8 +96,7 @@ public enum Season {
      * @return The following season
      */
     public Season next() {
-        Season[] seasons = Season.values();
-        return seasons[(this.ordinal() + 1) % seasons.length];
+        return VALUES[(this.ordinal() + 1) % VALUES.length];
     }
 
     /**
@@ -88,8 +105,7 @@ public enum Season {
      * @return The preceding season
      */
     public Season previous() {
-        Season[] seasons = Season.values();
-        return seasons[(this.ordinal() + seasons.length - 1) % seasons.length];
+        return VALUES[(this.ordinal() + VALUES.length - 1) % VALUES.length];
     }
 
     /**
@@ -109,15 +125,49 @@ public enum Season {
      * @return The season on that particular day
      */
     public static Season onDay(int day) {
-        int dayWithinYear = ((day % YEAR_LENGTH_IN_DAYS) + YEAR_LENGTH_IN_DAYS) % YEAR_LENGTH_IN_DAYS;
+        return VALUES[PACKED_DAYS[dayOfCycle(day)] >>> DAY_OF_SEASON_BITS];
+    }
 
-        for (Season season : values()) {
-            if (season.firstDay() <= dayWithinYear && dayWithinYear <= season.lastDay()) {
-                return season;
-            }
-        }
+    /**
+     * Returns the season and the day of the season on a particular day in a single lookup.
+     * <p>
+     * Use {@link #seasonOf(int)} and {@link #dayOfSeasonOf(int)} to unpack the result.
+     *
+     * @param day absolute day
+     * @return The season and day of the season on that particular day, packed into an int
+     */
+    public static int packedOnDay(int day) {
+        return PACKED_DAYS[dayOfCycle(day)];
+    }
+
+    /**
+     * Returns the season and the day of the season on a particular day in a single lookup.
+     *
+     * @param day absolute day (+ time)
+     * @return The season and day of the season on that particular day, packed into an int
+     */
+    public static int packedOnDay(double day) {
+        return packedOnDay((int) Math.floor(day));
+    }
+
+    /**
+     * Extracts the season from a value returned by {@link #packedOnDay(int)}.
+     *
+     * @param packedDay The packed season and day of the season
+     * @return The season
+     */
+    public static Season seasonOf(int packedDay) {
+        return VALUES[packedDay >>> DAY_OF_SEASON_BITS];
+    }
 
-        return null;  //unreachable code;
+    /**
+     * Extracts the day of the season from a value returned by {@link #packedOnDay(int)}.
+     *
+     * @param packedDay The packed season and day of the season
+     * @return How many days into the season the day is
+     */
+    public static int dayOfSeasonOf(int packedDay) {
+        return packedDay & DAY_OF_SEASON_MASK;
     }
 
     /**
@@ -137,7 +187,7 @@ public enum Season {
      * @return The corresponding day of the year
      */
     public static int dayOfCycle(int day) {
-        return ((day % YEAR_LENGTH_IN_DAYS) + YEAR_LENGTH_IN_DAYS) % YEAR_LENGTH_IN_DAYS;
+        return Math.floorMod(day, YEAR_LENGTH_IN_DAYS);
     }
 
     /**
@@ -157,8 +207,7 @@ public enum Season {
      * @return How many days you are into a season at the given day.
      */
     public static int dayOfSeason(int day) {
-        int dayWithinSeason = dayOfCycle(day);
-        return dayWithinSeason - onDay(dayWithinSeason).firstDay();
+        return PACKED_DAYS[dayOfCycle(day)] & DAY_OF_SEASON_MASK;
     }
 
     /**
@@ -178,11 +227,4 @@ public enum Season {
     public int lastDay() {
         return firstDay + lengthInDays - 1;
     }
-
-    static {
-        Season[] seasons = values();
-        Season lastSeason = seasons[seasons.length - 1];
-        YEAR_LENGTH_IN_DAYS = lastSeason.lastDay() + 1;
-    }
-
 }
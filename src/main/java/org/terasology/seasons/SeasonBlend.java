@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+/**
+ * The current season blended with an adjacent season around a season transition.
+ * <p>
+ * Within half the transition window before the end of a season the next season fades in, reaching an even blend at the
+ * transition; within half the window after it the previous season fades out. Outside the window the adjacent season is
+ * the current season itself with weight 0. The weights always add up to 1.
+ */
+public final class SeasonBlend {
+    private final SeasonCalendar calendar;
+    private final int currentIndex;
+    private final int adjacentIndex;
+    private final float adjacentWeight;
+
+    private SeasonBlend(SeasonCalendar calendar, int currentIndex, int adjacentIndex, float adjacentWeight) {
+        this.calendar = calendar;
+        this.currentIndex = currentIndex;
+        this.adjacentIndex = adjacentIndex;
+        this.adjacentWeight = adjacentWeight;
+    }
+
+    /**
+     * Computes the blend at a moment.
+     *
+     * @param calendar The calendar the seasons follow
+     * @param seasonIndex The index of the current season
+     * @param timeInSeason How far into the current season the moment is, in days (+ time)
+     * @param transitionWindow The length of the transition window in days; 0 for discrete transitions
+     * @return The blend at that moment
+     */
+    static SeasonBlend compute(SeasonCalendar calendar, int seasonIndex, double timeInSeason, float transitionWindow) {
+        double length = calendar.lengthInDays(seasonIndex);
+        double halfWindow = Math.min(transitionWindow / 2.0, length / 2.0);
+        if (halfWindow > 0) {
+            if (timeInSeason < halfWindow) {
+                float weight = (float) (0.5 * (1 - timeInSeason / halfWindow));
+                return new SeasonBlend(calendar, seasonIndex, calendar.previous(seasonIndex), weight);
+            }
+            double timeLeft = length - timeInSeason;
+            if (timeLeft < halfWindow) {
+                float weight = (float) (0.5 * (1 - timeLeft / halfWindow));
+                return new SeasonBlend(calendar, seasonIndex, calendar.next(seasonIndex), weight);
+            }
+        }
+        return new SeasonBlend(calendar, seasonIndex, seasonIndex, 0);
+    }
+
+    /**
+     * Computes the blend at a point in time.
+     *
+     * @param calendar The calendar the seasons follow
+     * @param days The absolute day (+ time)
+     * @param transitionWindow The length of the transition window in days; 0 for discrete transitions
+     * @return The blend at that point in time
+     */
+    public static SeasonBlend at(SeasonCalendar calendar, double days, float transitionWindow) {
+        int day = (int) Math.floor(days);
+        int packedDay = calendar.packedOnDay(day);
+        return compute(calendar, SeasonCalendar.seasonIndexOf(packedDay),
+                SeasonCalendar.dayOfSeasonOf(packedDay) + (days - day), transitionWindow);
+    }
+
+    /**
+     * @return The index of the current season in the calendar
+     */
+    public int currentIndex() {
+        return currentIndex;
+    }
+
+    /**
+     * @return The index of the adjacent season in the calendar; the current season outside a transition
+     */
+    public int adjacentIndex() {
+        return adjacentIndex;
+    }
+
+    /**
+     * @return The {@link Season} the current season behaves as
+     */
+    public Season current() {
+        return calendar.season(currentIndex);
+    }
+
+    /**
+     * @return The {@link Season} the adjacent season behaves as
+     */
+    public Season adjacent() {
+        return calendar.season(adjacentIndex);
+    }
+
+    /**
+     * @return The weight of the current season, in [0.5, 1]
+     */
+    public float currentWeight() {
+        return 1 - adjacentWeight;
+    }
+
+    /**
+     * @return The weight of the adjacent season, in [0, 0.5]
+     */
+    public float adjacentWeight() {
+        return adjacentWeight;
+    }
+
+    /**
+     * @return Whether the moment lies within a transition window
+     */
+    public boolean isTransitioning() {
+        return adjacentWeight > 0;
+    }
+
+    /**
+     * Returns the weight of a {@link Season}, adding up the current and adjacent season if both behave as it.
+     *
+     * @param season The season
+     * @return The weight of the season, in [0, 1]
+     */
+    public float weightOf(Season season) {
+        float weight = 0;
+        if (current() == season) {
+            weight += currentWeight();
+        }
+        if (adjacent() == season) {
+            weight += adjacentWeight;
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable, compiled calendar of seasons.
+ * <p>
+ * Seasons of a calendar are identified by their index. Each one behaves as one of the four {@link Season}s, so
+ * calendars with more or fewer seasons, such as one with a monsoon, still work with code that only knows the enum.
+ * Every day-based lookup is a floorMod plus an array load, just like the lookups on {@link Season}.
+ * <p>
+ * Lookups that return both the season and the day of the season pack them into an int in the same layout as
+ * {@link Season#packedOnDay(int)}, so packed days of {@link #DEFAULT} can be unpacked by either class.
+ */
+public final class SeasonCalendar {
+    private static final int DAY_OF_SEASON_BITS = 16;
+    private static final int DAY_OF_SEASON_MASK = (1 << DAY_OF_SEASON_BITS) - 1;
+
+    /**
+     * The calendar of the {@link Season} enumeration: four seasons of equal length.
+     */
+    public static final SeasonCalendar DEFAULT = fromSeasons();
+
+    private final String[] displayNames;
+    private final Season[] seasons;
+    private final int[] firstDays;
+    private final int[] lengths;
+    private final int[] packedDays;
+    private final int[] nextSeasons;
+    private final int[] previousSeasons;
+    private final int[] occurrenceInYear;
+    private final int occurrencesPerYear;
+    private final int yearLength;
+
+    private SeasonCalendar(List<SeasonDefinition> definitions) {
+        if (definitions.isEmpty()) {
+            throw new IllegalArgumentException("A calendar needs at least one season");
+        }
+        if (definitions.size() > (1 << (Integer.SIZE - 1 - DAY_OF_SEASON_BITS))) {
+            throw new IllegalArgumentException("Too many seasons in calendar");
+        }
+
+        int count = definitions.size();
+        displayNames = new String[count];
+        seasons = new Season[count];
+        firstDays = new int[count];
+        lengths = new int[count];
+
+        int day = 0;
+        for (int i = 0; i < count; i++) {
+            SeasonDefinition definition = definitions.get(i);
+            if (definition.name == null || definition.season == null) {
+                throw new IllegalArgumentException("Season " + i + " needs a name and a season to behave as");
+            }
+            if (definition.lengthInDays < 0 || definition.lengthInDays > DAY_OF_SEASON_MASK + 1) {
+                throw new IllegalArgumentException("Length of season " + definition.name + " must be >= 0 and <= " + (DAY_OF_SEASON_MASK + 1));
+            }
+            displayNames[i] = definition.name;
+            seasons[i] = definition.season;
+            firstDays[i] = day;
+            lengths[i] = definition.lengthInDays;
+            day += definition.lengthInDays;
+        }
+
+        if (day <= 0) {
+            throw new IllegalArgumentException("Length of a year must be > 0");
+        }
+        yearLength = day;
+
+        packedDays = new int[yearLength];
+        for (int i = 0; i < count; i++) {
+            for (int dayOfSeason = 0; dayOfSeason < lengths[i]; dayOfSeason++) {
+                packedDays[firstDays[i] + dayOfSeason] = (i << DAY_OF_SEASON_BITS) | dayOfSeason;
+            }
+        }
+
+        // Seasons of length 0 never occur, so they are skipped when stepping and counting through the seasons
+        nextSeasons = new int[count];
+        previousSeasons = new int[count];
+        occurrenceInYear = new int[count];
+        int occurrences = 0;
+        for (int i = 0; i < count; i++) {
+            occurrenceInYear[i] = occurrences;
+            if (lengths[i] > 0) {
+                occurrences++;
+            }
+            int next = (i + 1) % count;
+            while (lengths[next] == 0) {
+                next = (next + 1) % count;
+            }
+            nextSeasons[i] = next;
+            int previous = (i + count - 1) % count;
+            while (lengths[previous] == 0) {
+                previous = (previous + count - 1) % count;
+            }
+            previousSeasons[i] = previous;
+        }
+        occurrencesPerYear = occurrences;
+    }
+
+    /**
+     * Compiles a calendar from season definitions, in the order they occur in a year.
+     *
+     * @param definitions The seasons of the calendar
+     * @return The compiled calendar
+     */
+    public static SeasonCalendar compile(List<SeasonDefinition> definitions) {
+        return new SeasonCalendar(definitions);
+    }
+
+    /**
+     * Compiles the calendar described by a calendar component.
+     *
+     * @param component The component describing the calendar
+     * @return The compiled calendar
+     */
+    public static SeasonCalendar compile(SeasonCalendarComponent component) {
+        return new SeasonCalendar(component.seasons);
+    }
+
+    /**
+     * Describes the calendar as season definitions again, e.g. to store it in a component.
+     *
+     * @return The seasons of the calendar, in the order they occur in a year
+     */
+    public List<SeasonDefinition> toDefinitions() {
+        List<SeasonDefinition> definitions = new ArrayList<>(seasonCount());
+        for (int i = 0; i < seasonCount(); i++) {
+            definitions.add(new SeasonDefinition(displayName(i), lengthInDays(i), season(i)));
+        }
+        return definitions;
+    }
+
+    private static SeasonCalendar fromSeasons() {
+        List<SeasonDefinition> definitions = new ArrayList<>();
+        for (Season season : Season.values()) {
+            definitions.add(new SeasonDefinition(season.displayName(), season.lengthInDays(), season));
+        }
+        return new SeasonCalendar(definitions);
+    }
+
+    /**
+     * The amount of days of all seasons combined.
+     *
+     * @return The length of a year in days
+     */
+    public int yearLength() {
+        return yearLength;
+    }
+
+    /**
+     * @return The number of seasons in a year
+     */
+    public int seasonCount() {
+        return seasons.length;
+    }
+
+    /**
+     * @param index The index of a season in this calendar
+     * @return The name of the season
+     */
+    public String displayName(int index) {
+        return displayNames[index];
+    }
+
+    /**
+     * @param index The index of a season in this calendar
+     * @return The {@link Season} the season behaves as
+     */
+    public Season season(int index) {
+        return seasons[index];
+    }
+
+    /**
+     * @param index The index of a season in this calendar
+     * @return The length of the season in days
+     */
+    public int lengthInDays(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * @param index The index of a season in this calendar
+     * @return The day of the year that marks the first day of the season
+     */
+    public int firstDay(int index) {
+        return firstDays[index];
+    }
+
+    /**
+     * @param index The index of a season in this calendar
+     * @return The day of the year that marks the last day of the season
+     */
+    public int lastDay(int index) {
+        return firstDays[index] + lengths[index] - 1;
+    }
+
+    /**
+     * @param index The index of a season in this calendar
+     * @return The index of the season that follows it, skipping seasons of length 0
+     */
+    public int next(int index) {
+        return nextSeasons[index];
+    }
+
+    /**
+     * @param index The index of a season in this calendar
+     * @return The index of the season that precedes it, skipping seasons of length 0
+     */
+    public int previous(int index) {
+        return previousSeasons[index];
+    }
+
+    /**
+     * @return The number of seasons that actually occur in a year, i.e. those with a length > 0
+     */
+    public int occurrencesPerYear() {
+        return occurrencesPerYear;
+    }
+
+    /**
+     * Numbers every occurrence of a season since day 0, so that the difference between the numbers of two days is the
+     * number of season transitions between them.
+     *
+     * @param day absolute day
+     * @return The number of the season occurrence on that day; 0 for the first season of year 0
+     */
+    public long seasonNumber(int day) {
+        long year = Math.floorDiv(day, yearLength);
+        return year * occurrencesPerYear + occurrenceInYear[seasonIndexOnDay(day)];
+    }
+
+    /**
+     * Converts an absolute day to day of the year
+     *
+     * @param day absolute day
+     * @return The corresponding day of the year
+     */
+    public int dayOfYear(int day) {
+        return Math.floorMod(day, yearLength);
+    }
+
+    /**
+     * Returns the index of the season on a particular day
+     *
+     * @param day absolute day
+     * @return The index of the season on that particular day
+     */
+    public int seasonIndexOnDay(int day) {
+        return packedDays[dayOfYear(day)] >>> DAY_OF_SEASON_BITS;
+    }
+
+    /**
+     * Returns the {@link Season} the season on a particular day behaves as
+     *
+     * @param day absolute day
+     * @return The season on that particular day
+     */
+    public Season onDay(int day) {
+        return seasons[seasonIndexOnDay(day)];
+    }
+
+    /**
+     * Returns how many days you are into a season at a particular day.
+     *
+     * @param day absolute day
+     * @return How many days you are into a season at the given day.
+     */
+    public int dayOfSeason(int day) {
+        return packedDays[dayOfYear(day)] & DAY_OF_SEASON_MASK;
+    }
+
+    /**
+     * Returns the index of the season and the day of the season on a particular day in a single lookup.
+     *
+     * @param day absolute day
+     * @return The season index and day of the season, packed into an int
+     */
+    public int packedOnDay(int day) {
+        return packedDays[dayOfYear(day)];
+    }
+
+    /**
+     * Returns the index of the season and the day of the season on a particular day in a single lookup.
+     *
+     * @param day absolute day (+ time)
+     * @return The season index and day of the season, packed into an int
+     */
+    public int packedOnDay(double day) {
+        return packedOnDay((int) Math.floor(day));
+    }
+
+    /**
+     * Extracts the season index from a value returned by {@link #packedOnDay(int)}.
+     *
+     * @param packedDay The packed season index and day of the season
+     * @return The season index
+     */
+    public static int seasonIndexOf(int packedDay) {
+        return packedDay >>> DAY_OF_SEASON_BITS;
+    }
+
+    /**
+     * Extracts the day of the season from a value returned by {@link #packedOnDay(int)}.
+     *
+     * @param packedDay The packed season index and day of the season
+     * @return How many days into the season the day is
+     */
+    public static int dayOfSeasonOf(int packedDay) {
+        return packedDay & DAY_OF_SEASON_MASK;
+    }
+}
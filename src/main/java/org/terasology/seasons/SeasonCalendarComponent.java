@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes the season calendar of a world.
+ * <p>
+ * Added to the world entity, it sets the calendar of that world. Otherwise the calendar of the {@code Seasons:calendar}
+ * prefab is used, which other modules can override.
+ */
+public class SeasonCalendarComponent implements Component<SeasonCalendarComponent> {
+    /**
+     * The seasons in the order they occur in a year
+     */
+    public List<SeasonDefinition> seasons = new ArrayList<>();
+
+    @Override
+    public void copyFrom(SeasonCalendarComponent other) {
+        seasons = new ArrayList<>();
+        for (SeasonDefinition season : other.seasons) {
+            seasons.add(new SeasonDefinition(season));
+        }
+    }
+}
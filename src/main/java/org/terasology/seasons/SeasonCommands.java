@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.console.commandSystem.annotations.Command;
+import org.terasology.engine.logic.console.commandSystem.annotations.CommandParam;
+import org.terasology.engine.logic.permission.PermissionManager;
+import org.terasology.engine.registry.In;
+import org.terasology.seasons.listeners.SeasonListenerRegistration;
+import org.terasology.seasons.metrics.SampledSeasonMetrics;
+import org.terasology.seasons.metrics.SeasonMetrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Console commands for inspecting the season system.
+ */
+@RegisterSystem
+public class SeasonCommands extends BaseComponentSystem {
+
+    @In
+    private SeasonSystem seasonSystem;
+
+    @Command(shortDescription = "Shows or controls the season system metrics",
+            helpText = "Without argument shows the metrics; 'on' and 'off' switch recording, 'reset' clears them",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String seasonMetrics(@CommandParam(value = "action", required = false) String action) {
+        if (action == null || action.isEmpty()) {
+            if (seasonSystem.getMetrics() == SeasonMetrics.NO_OP) {
+                return "Season metrics are off, use 'seasonMetrics on' to record them";
+            }
+            return seasonSystem.getMetrics().snapshot().toString();
+        }
+        switch (action) {
+            case "on":
+                if (seasonSystem.getMetrics() == SeasonMetrics.NO_OP) {
+                    seasonSystem.setMetrics(new SampledSeasonMetrics());
+                }
+                return "Season metrics are on";
+            case "off":
+                seasonSystem.setMetrics(SeasonMetrics.NO_OP);
+                return "Season metrics are off";
+            case "reset":
+                seasonSystem.getMetrics().reset();
+                return "Season metrics were reset";
+            default:
+                return "Unknown action '" + action + "', use on, off or reset";
+        }
+    }
+
+    @Command(shortDescription = "Shows the execution times of the season listeners",
+            helpText = "Lists the registered season listeners, slowest single call first",
+            runOnServer = true, requiredPermission = PermissionManager.DEBUG_PERMISSION)
+    public String seasonListeners() {
+        List<SeasonListenerRegistration<?>> registrations = new ArrayList<>(seasonSystem.getListeners().getRegistrations());
+        if (registrations.isEmpty()) {
+            return "No season listeners are registered";
+        }
+        registrations.sort(Comparator.comparingLong(SeasonListenerRegistration<?>::getMaxNanos).reversed());
+        StringBuilder result = new StringBuilder();
+        result.append(seasonSystem.getListeners().pendingCount()).append(" pending deliveries");
+        for (SeasonListenerRegistration<?> registration : registrations) {
+            result.append('\n').append(registration);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.network.Replicate;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The persistent state of the seasons of a world, kept on the world entity by the {@link SeasonSystem}.
+ * <p>
+ * It is saved with the world, so after a restart the seasons continue with the same calendar and climate anomalies
+ * and season transitions missed in the meantime are still reported. It is replicated to clients, which take the
+ * calendar and climate anomalies from it instead of resolving them on their own.
+ */
+public class SeasonComponent implements Component<SeasonComponent> {
+    /**
+     * The value of {@link #lastProcessedDay} before the first midnight was processed.
+     */
+    public static final int NOT_PROCESSED = Integer.MIN_VALUE;
+
+    /**
+     * The seasons of the active calendar, in the order they occur in a year
+     */
+    @Replicate
+    public List<SeasonDefinition> calendar = new ArrayList<>();
+
+    /**
+     * The last day the start of which the seasons reacted to
+     */
+    @Replicate
+    public int lastProcessedDay = NOT_PROCESSED;
+
+    /**
+     * The index of the season of {@link #lastProcessedDay} in the calendar
+     */
+    @Replicate
+    public int lastSeasonIndex;
+
+    /**
+     * The seed the climate anomalies of every year are derived from
+     */
+    @Replicate
+    public long anomalySeed;
+
+    /**
+     * Whether the climate differs between years; if not, the seed and variations are ignored. Off for worlds saved
+     * before anomalies existed, so their climate stays the same
+     */
+    @Replicate
+    public boolean anomaliesEnabled;
+
+    /**
+     * How much the temperature amplitude of a year may deviate, as a fraction of it
+     */
+    @Replicate
+    public float temperatureScaleVariation = ClimateAnomalies.DEFAULT_TEMPERATURE_SCALE_VARIATION;
+
+    /**
+     * How much the temperature of a year may be shifted, in degrees
+     */
+    @Replicate
+    public float temperatureBiasVariation = ClimateAnomalies.DEFAULT_TEMPERATURE_BIAS_VARIATION;
+
+    /**
+     * How much the humidity amplitude of a year may deviate, as a fraction of it
+     */
+    @Replicate
+    public float humidityScaleVariation = ClimateAnomalies.DEFAULT_HUMIDITY_SCALE_VARIATION;
+
+    /**
+     * How much the humidity of a year may be shifted
+     */
+    @Replicate
+    public float humidityBiasVariation = ClimateAnomalies.DEFAULT_HUMIDITY_BIAS_VARIATION;
+
+    /**
+     * @return The climate anomalies described by this component
+     */
+    public ClimateAnomalies anomalies() {
+        if (!anomaliesEnabled) {
+            return ClimateAnomalies.NONE;
+        }
+        return new ClimateAnomalies(anomalySeed, temperatureScaleVariation, temperatureBiasVariation,
+                humidityScaleVariation, humidityBiasVariation);
+    }
+
+    @Override
+    public void copyFrom(SeasonComponent other) {
+        calendar = new ArrayList<>();
+        for (SeasonDefinition season : other.calendar) {
+            calendar.add(new SeasonDefinition(season));
+        }
+        lastProcessedDay = other.lastProcessedDay;
+        lastSeasonIndex = other.lastSeasonIndex;
+        anomalySeed = other.anomalySeed;
+        anomaliesEnabled = other.anomaliesEnabled;
+        temperatureScaleVariation = other.temperatureScaleVariation;
+        temperatureBiasVariation = other.temperatureBiasVariation;
+        humidityScaleVariation = other.humidityScaleVariation;
+        humidityBiasVariation = other.humidityBiasVariation;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.reflection.MappedContainer;
+
+/**
+ * A single keyframe of a seasonal curve in a {@link ClimateCurveComponent}.
+ */
+@MappedContainer
+public class SeasonCurveKeyframe {
+    /**
+     * The point in the year, in [0, 1)
+     */
+    public float time;
+
+    /**
+     * The value of the curve at that point
+     */
+    public float value;
+
+    /**
+     * The slope of the curve at that point, in value per year; if not set, it follows from the neighbouring keyframes
+     */
+    public Float tangent;
+
+    public SeasonCurveKeyframe() {
+    }
+
+    public SeasonCurveKeyframe(float time, float value, Float tangent) {
+        this.time = time;
+        this.value = value;
+        this.tangent = tangent;
+    }
+
+    public SeasonCurveKeyframe(SeasonCurveKeyframe other) {
+        this(other.time, other.value, other.tangent);
+    }
+}
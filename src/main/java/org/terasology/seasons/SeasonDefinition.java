@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.reflection.MappedContainer;
+
+/**
+ * A single season of a {@link SeasonCalendarComponent}.
+ */
+@MappedContainer
+public class SeasonDefinition {
+    /**
+     * The name of the season
+     */
+    public String name;
+
+    /**
+     * The length of the season in days
+     */
+    public int lengthInDays;
+
+    /**
+     * The season of the default calendar this season behaves as, e.g. a monsoon that counts as summer.
+     */
+    public Season season;
+
+    public SeasonDefinition() {
+    }
+
+    public SeasonDefinition(String name, int lengthInDays, Season season) {
+        this.name = name;
+        this.lengthInDays = lengthInDays;
+        this.season = season;
+    }
+
+    public SeasonDefinition(SeasonDefinition other) {
+        this(other.name, other.lengthInDays, other.season);
+    }
+}
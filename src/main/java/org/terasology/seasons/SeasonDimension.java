@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The seasons of one world or dimension, as registered with the {@link SeasonSystem}.
+ * <p>
+ * Every dimension has its own calendar, its own phase offset and amplitude of the climate curves, and its own world
+ * entity that receives its season events. Its days start at its own midnight, shifted by the phase offset, and the
+ * events it sends carry its {@link #getId() id}. The climate curves, latitude model, anomalies and transition
+ * window are shared by all dimensions. The primary dimension is the main world and always exists.
+ */
+public final class SeasonDimension {
+    /**
+     * The id of the primary dimension, the main world.
+     */
+    public static final int PRIMARY = 0;
+
+    private final int id;
+    private final String name;
+    private final long phaseOffset;
+    private final float amplitude;
+
+    volatile SeasonCalendar calendar;
+    volatile SeasonTimeline timeline;
+    volatile DaylightTable daylight;
+    volatile DayDescriptions dayDescriptions;
+    final AtomicReference<SeasonState> state;
+
+    // Only used from the main thread
+    EntityRef worldEntity;
+    int lastProcessedDay;
+    int lastSeasonIndex;
+    SeasonCalendar persistedCalendar;
+    final Deque<Event> pendingEvents = new ArrayDeque<>();
+
+    SeasonDimension(int id, String name, EntityRef worldEntity, SeasonCalendar calendar, long phaseOffset, float amplitude,
+                    SeasonState initialState, DaylightModel daylightModel) {
+        this.id = id;
+        this.name = name;
+        this.worldEntity = worldEntity;
+        this.calendar = calendar;
+        this.timeline = new SeasonTimeline(calendar);
+        this.daylight = daylightModel.compile(calendar);
+        this.phaseOffset = phaseOffset;
+        this.amplitude = amplitude;
+        this.state = new AtomicReference<>(initialState);
+    }
+
+    /**
+     * @param worldTicks The world time in milliseconds
+     * @return The time of this dimension in milliseconds
+     */
+    long ticks(long worldTicks) {
+        return worldTicks + phaseOffset;
+    }
+
+    /**
+     * @return The id of the dimension, as returned by a {@link DimensionLocator}
+     */
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return How far the seasons of this dimension are ahead of the world time, in milliseconds
+     */
+    public long getPhaseOffset() {
+        return phaseOffset;
+    }
+
+    /**
+     * @return The factor the seasonal climate offsets of this dimension are scaled by
+     */
+    public float getAmplitude() {
+        return amplitude;
+    }
+
+    /**
+     * @return The world entity that receives the season events of this dimension, or {@link EntityRef#NULL}
+     */
+    public EntityRef getWorldEntity() {
+        return worldEntity;
+    }
+
+    /**
+     * @return The calendar the seasons of this dimension follow
+     */
+    public SeasonCalendar getCalendar() {
+        return calendar;
+    }
+
+    /**
+     * @return The timeline of the calendar of this dimension
+     */
+    public SeasonTimeline getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * @return The daylight of every day of the calendar of this dimension
+     */
+    public DaylightTable getDaylight() {
+        return daylight;
+    }
+
+    /**
+     * @param worldTicks The world time in milliseconds
+     * @return Whether the sun is up in this dimension at that time, taking its phase offset into account
+     */
+    public boolean isDaylight(long worldTicks) {
+        return daylight.isDaylight(ticks(worldTicks));
+    }
+
+    /**
+     * @return The state of the seasons of this dimension published for the current time quantum
+     */
+    public SeasonState getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.world.time.WorldTime;
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.seasons.events.OnSeasonChangeEvent;
+import org.terasology.seasons.events.OnSeasonDayEvent;
+import org.terasology.seasons.listeners.SeasonListenerRegistry;
+import org.terasology.seasons.metrics.SeasonMetrics;
+import org.terasology.seasons.metrics.SeasonProbe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * The dimensions registered with a {@link SeasonSystem} and the bookkeeping of their days: it starts their days,
+ * reports their season transitions, persists their state in the {@link SeasonComponent} of their world entity and
+ * takes over the state saved or replicated there.
+ * <p>
+ * The shared configuration, such as the climate curves, the anomalies and the world time, stays with the system. The
+ * dimensions can be read from any thread; everything else is only used from the main thread, and registration runs
+ * while the system is locked.
+ */
+final class SeasonDimensionRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(SeasonDimensionRegistry.class);
+
+    private final SeasonSystem system;
+    private final SeasonListenerRegistry listeners;
+    private final SeasonDimension primary;
+    // Indexed by dimension id; replaced as a whole, so climate queries resolve their dimension without locking
+    private volatile SeasonDimension[] dimensions;
+
+    private int maxTransitionEvents = SeasonSystem.DEFAULT_MAX_TRANSITION_EVENTS;
+    private Consumer<Event> eventObserver;
+
+    SeasonDimensionRegistry(SeasonSystem system, SeasonListenerRegistry listeners, SeasonDimension primary) {
+        this.system = system;
+        this.listeners = listeners;
+        this.primary = primary;
+        this.dimensions = new SeasonDimension[] {primary};
+    }
+
+    SeasonDimension primary() {
+        return primary;
+    }
+
+    /**
+     * @return The dimensions indexed by id, with null for removed ones; must not be modified
+     */
+    SeasonDimension[] all() {
+        return dimensions;
+    }
+
+    /**
+     * @return The dimension with that id, or null if there is none
+     */
+    SeasonDimension get(int id) {
+        SeasonDimension[] current = dimensions;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+
+    List<SeasonDimension> list() {
+        List<SeasonDimension> result = new ArrayList<>();
+        for (SeasonDimension dimension : dimensions) {
+            if (dimension != null) {
+                result.add(dimension);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Registers a dimension with the next free id. It continues from the {@link SeasonComponent} of its world entity
+     * if there is one, else starts in the season the calendar has on the current day.
+     */
+    SeasonDimension register(String name, EntityRef worldEntity, SeasonCalendar calendar, long phaseOffset,
+                             float amplitude) {
+        SeasonDimension[] current = dimensions;
+        SeasonDimension dimension = new SeasonDimension(current.length, name, worldEntity, calendar, phaseOffset,
+                amplitude, primary.state.get(), system.getDaylightModel());
+        WorldTime time = system.worldTime();
+        dimension.lastProcessedDay = time != null ? SeasonTime.dayOf(dimension.ticks(time.getMilliseconds())) : 0;
+        dimension.lastSeasonIndex = calendar.seasonIndexOnDay(dimension.lastProcessedDay);
+        SeasonDimension[] extended = Arrays.copyOf(current, current.length + 1);
+        extended[dimension.getId()] = dimension;
+        dimensions = extended;
+        system.publishState(dimension, true);
+        SeasonComponent saved = worldEntity.exists() ? worldEntity.getComponent(SeasonComponent.class) : null;
+        if (saved != null) {
+            // Copied, as processing the missed days persists the current state into the component
+            SeasonComponent stored = new SeasonComponent();
+            stored.copyFrom(saved);
+            restoreState(dimension, stored);
+        }
+        persist(dimension);
+        return dimension;
+    }
+
+    /**
+     * Removes a dimension other than the primary one; its id isn't reused.
+     */
+    void unregister(SeasonDimension dimension) {
+        SeasonDimension[] copy = dimensions.clone();
+        if (dimension.getId() < copy.length && copy[dimension.getId()] == dimension) {
+            copy[dimension.getId()] = null;
+            dimensions = copy;
+        }
+    }
+
+    /**
+     * Forgets all dimensions but the primary one and the days processed in it.
+     */
+    void reset() {
+        dimensions = new SeasonDimension[] {primary};
+        primary.lastProcessedDay = 0;
+        primary.lastSeasonIndex = 0;
+        primary.persistedCalendar = null;
+        primary.pendingEvents.clear();
+    }
+
+    int getMaxTransitionEvents() {
+        return maxTransitionEvents;
+    }
+
+    void setMaxTransitionEvents(int maxEvents) {
+        maxTransitionEvents = maxEvents;
+    }
+
+    void observeEvents(Consumer<Event> observer) {
+        eventObserver = observer;
+    }
+
+    /**
+     * Starts the days of the other dimensions whose midnight passed and sends the events held back while a world
+     * entity was missing.
+     */
+    void update() {
+        for (SeasonDimension dimension : dimensions) {
+            if (dimension != null) {
+                if (dimension != primary) {
+                    rollOver(dimension);
+                }
+                flushPendingEvents(dimension);
+            }
+        }
+    }
+
+    /**
+     * Finds the dimension a world entity belongs to; entities of no other dimension belong to the primary one.
+     */
+    SeasonDimension dimensionOf(EntityRef entity) {
+        for (SeasonDimension dimension : dimensions) {
+            if (dimension != null && dimension != primary && entity.exists() && dimension.worldEntity.equals(entity)) {
+                return dimension;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * Returns the current day of a dimension; without world time, e.g. after shutdown, the day of its last published
+     * state.
+     */
+    int currentDay(SeasonDimension dimension) {
+        WorldTime time = system.worldTime();
+        if (time == null) {
+            return dimension.state.get().day();
+        }
+        return SeasonTime.dayOf(dimension.ticks(time.getMilliseconds()));
+    }
+
+    /**
+     * Returns the description of a day in a dimension. Every dimension keeps the descriptions of its own calendar,
+     * which are rendered again only if its calendar or the locale has changed.
+     */
+    String describeDay(SeasonDimension dimension, int day) {
+        SeasonCalendar cal = dimension.calendar;
+        DayDescriptions descriptions = dimension.dayDescriptions;
+        Locale locale = Locale.getDefault();
+        if (descriptions == null || !descriptions.describes(cal, locale)) {
+            descriptions = new DayDescriptions(cal, locale);
+            dimension.dayDescriptions = descriptions;
+        }
+        return descriptions.describe(day);
+    }
+
+    /**
+     * Reacts to the start of a day: reports the season transitions since the last processed day and the new day, and
+     * persists that the day was processed.
+     */
+    void processDay(SeasonDimension dimension, int day) {
+        SeasonCalendar cal = dimension.calendar;
+        int packedDay = cal.packedOnDay(day);
+        int s = SeasonCalendar.seasonIndexOf(packedDay);
+        int d = SeasonCalendar.dayOfSeasonOf(packedDay);
+
+        int previousDay = dimension.lastProcessedDay;
+        dimension.lastProcessedDay = day;
+        dimension.lastSeasonIndex = s;
+        if (logger.isInfoEnabled()) {
+            logger.info("Season day in {}: {}", dimension.getName(), describeDay(dimension, day));
+        }
+
+        long transitions = cal.seasonNumber(day) - cal.seasonNumber(previousDay);
+        if (transitions != 0) {
+            broadcastSeasonChangeEvents(dimension, cal.seasonIndexOnDay(previousDay), s, transitions);
+        }
+        broadcast(dimension, new OnSeasonDayEvent(day, cal.season(s), s, d, dimension.getId()));
+        persist(dimension);
+    }
+
+    /**
+     * Starts the current day of a dimension if it hasn't been started yet, i.e. the midnight of the dimension passed.
+     */
+    private void rollOver(SeasonDimension dimension) {
+        if (system.worldTime() == null) {
+            return;
+        }
+        int day = currentDay(dimension);
+        if (day != dimension.lastProcessedDay) {
+            SeasonMetrics m = system.getMetrics();
+            long start = m.begin(SeasonProbe.MIDNIGHT);
+            processDay(dimension, day);
+            m.end(SeasonProbe.MIDNIGHT, start);
+        }
+    }
+
+    void writeState(SeasonDimension dimension, SeasonComponent component) {
+        SeasonCalendar cal = dimension.calendar;
+        // Only replace the calendar when it changed, so it isn't replicated again every day
+        if (dimension.persistedCalendar != cal || component.calendar.isEmpty()) {
+            component.calendar = cal.toDefinitions();
+            dimension.persistedCalendar = cal;
+        }
+        component.lastProcessedDay = dimension.lastProcessedDay;
+        component.lastSeasonIndex = dimension.lastSeasonIndex;
+        ClimateAnomalies current = system.getClimateAnomalies();
+        component.anomalySeed = current.seed();
+        component.anomaliesEnabled = current.varies();
+        component.temperatureScaleVariation = current.temperatureScaleVariation();
+        component.temperatureBiasVariation = current.temperatureBiasVariation();
+        component.humidityScaleVariation = current.humidityScaleVariation();
+        component.humidityBiasVariation = current.humidityBiasVariation();
+    }
+
+    /**
+     * Continues from a persisted season state: takes over the climate anomalies, from the primary dimension only, and
+     * the last processed day and, on the authority, reports the day and season transitions that were missed since then.
+     * The calendar is restored separately, as a calendar configured on the world entity takes precedence.
+     */
+    void restoreState(SeasonDimension dimension, SeasonComponent stored) {
+        if (dimension == primary) {
+            system.restoreClimateAnomalies(stored.anomalies());
+        }
+        if (stored.lastProcessedDay == SeasonComponent.NOT_PROCESSED) {
+            return;
+        }
+        dimension.lastProcessedDay = stored.lastProcessedDay;
+        dimension.lastSeasonIndex = stored.lastSeasonIndex;
+        if (system.isAuthority() && system.worldTime() != null) {
+            int day = currentDay(dimension);
+            if (day != dimension.lastProcessedDay) {
+                processDay(dimension, day);
+            }
+        }
+    }
+
+    /**
+     * Saves the persistent season state of a dimension in the {@link SeasonComponent} of its world entity, on the
+     * authority only.
+     */
+    void persist(SeasonDimension dimension) {
+        if (!system.isAuthority()) {
+            return;
+        }
+        EntityRef entity = system.getWorldEntity(dimension);
+        if (!entity.exists()) {
+            return;
+        }
+        SeasonComponent component = entity.getComponent(SeasonComponent.class);
+        if (component == null) {
+            component = new SeasonComponent();
+            dimension.persistedCalendar = null;
+        }
+        writeState(dimension, component);
+        entity.addOrSaveComponent(component);
+    }
+
+    /**
+     * Takes over the season state replicated with the world entity of a dimension. The state of world entities that
+     * belong to no dimension on this client, e.g. of a dimension that isn't registered here, is ignored rather than
+     * taken for the one of the primary dimension.
+     */
+    void adoptReplicatedState(EntityRef entity) {
+        if (system.isAuthority()) {
+            return;
+        }
+        SeasonDimension dimension = dimensionOf(entity);
+        if (dimension == primary && !system.getWorldEntity(primary).equals(entity)) {
+            logger.debug("Ignoring the season state of {}, which belongs to no season dimension", entity);
+            return;
+        }
+        SeasonComponent replicated = entity.getComponent(SeasonComponent.class);
+        if (replicated == null) {
+            return;
+        }
+        if (!replicated.calendar.isEmpty() && !describes(replicated.calendar, dimension.calendar)) {
+            try {
+                system.setCalendar(dimension, SeasonCalendar.compile(replicated.calendar));
+            } catch (IllegalArgumentException e) {
+                logger.error("Invalid replicated season calendar", e);
+            }
+        }
+        restoreState(dimension, replicated);
+    }
+
+    private static boolean describes(List<SeasonDefinition> definitions, SeasonCalendar calendar) {
+        if (definitions.size() != calendar.seasonCount()) {
+            return false;
+        }
+        for (int i = 0; i < definitions.size(); i++) {
+            SeasonDefinition definition = definitions.get(i);
+            if (!calendar.displayName(i).equals(definition.name) || calendar.lengthInDays(i) != definition.lengthInDays
+                    || calendar.season(i) != definition.season) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reports the season transitions between two days. When the world time was moved backwards, e.g. by a command or
+     * a restored day later than the current one, {@code transitions} is negative and always reported as a single
+     * coalesced event from the later season back to the earlier one.
+     */
+    private void broadcastSeasonChangeEvents(SeasonDimension dimension, int from, int to, long transitions) {
+        SeasonCalendar cal = dimension.calendar;
+        if (transitions > 0 && transitions <= maxTransitionEvents) {
+            int season = from;
+            for (long i = 0; i < transitions; i++) {
+                int next = cal.next(season);
+                broadcast(dimension, new OnSeasonChangeEvent(cal.season(season), cal.season(next), season, next, 1,
+                        dimension.getId()));
+                season = next;
+            }
+        } else {
+            if (logger.isInfoEnabled()) {
+                logger.info("Time skip across {} season transitions in {}, from {} to {}", transitions,
+                        dimension.getName(), cal.displayName(from), cal.displayName(to));
+            }
+            broadcast(dimension, new OnSeasonChangeEvent(cal.season(from), cal.season(to), from, to, transitions,
+                    dimension.getId()));
+        }
+    }
+
+    /**
+     * Sends an event to the world entity of a dimension and passes it to the season listeners. While there is no world
+     * entity, events are held back and sent as soon as it is available, up to {@link SeasonSystem#MAX_PENDING_EVENTS};
+     * beyond that the oldest ones are dropped.
+     */
+    private void broadcast(SeasonDimension dimension, Event event) {
+        SeasonMetrics m = system.getMetrics();
+        long start = m.begin(SeasonProbe.EVENT_BROADCAST);
+        Consumer<Event> target = eventTarget(dimension);
+        Deque<Event> pendingEvents = dimension.pendingEvents;
+        if (target == null) {
+            if (pendingEvents.size() >= SeasonSystem.MAX_PENDING_EVENTS) {
+                logger.warn("No world entity to send season events of {} to, dropping {}", dimension.getName(),
+                        pendingEvents.pollFirst());
+            }
+            pendingEvents.addLast(event);
+        } else {
+            flushPendingEvents(dimension, target);
+            target.accept(event);
+        }
+        listeners.dispatch(event);
+        m.end(SeasonProbe.EVENT_BROADCAST, start);
+    }
+
+    /**
+     * Sends the events held back for a dimension, if its world entity is available by now.
+     */
+    private void flushPendingEvents(SeasonDimension dimension) {
+        if (!dimension.pendingEvents.isEmpty()) {
+            Consumer<Event> target = eventTarget(dimension);
+            if (target != null) {
+                flushPendingEvents(dimension, target);
+            }
+        }
+    }
+
+    private static void flushPendingEvents(SeasonDimension dimension, Consumer<Event> target) {
+        Deque<Event> pendingEvents = dimension.pendingEvents;
+        while (!pendingEvents.isEmpty()) {
+            target.accept(pendingEvents.pollFirst());
+        }
+    }
+
+    /**
+     * Returns where the events of a dimension go: the observer if one is set, else the world entity of the dimension.
+     *
+     * @return The event target, or null if there is no world entity yet
+     */
+    private Consumer<Event> eventTarget(SeasonDimension dimension) {
+        Consumer<Event> observer = eventObserver;
+        if (observer != null) {
+            return observer;
+        }
+        EntityRef entity = system.getWorldEntity(dimension);
+        return entity.exists() ? entity::send : null;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import java.util.Arrays;
+
+/**
+ * A named gameplay multiplier with a value per {@link Season}, such as the growth rate of crops.
+ * <p>
+ * The value for the current time is resolved once per tick from the {@link SeasonBlend} at that time, so {@link #get()}
+ * is a single field read and agrees with the climate. A blended multiplier fades between the values of adjacent
+ * seasons within the transition window, like the climate does; otherwise it jumps at the transition. The values at the
+ * start of every day of the calendar's year are compiled into a table for {@link #onDay(int)}.
+ * <p>
+ * Both the table and the resolved value are safe to read from any thread.
+ */
+public final class SeasonMultiplier {
+    private final String name;
+    private final float[] seasonValues;
+    private final boolean blended;
+
+    private volatile float[] table;
+    private volatile float value;
+
+    SeasonMultiplier(String name, float[] seasonValues, boolean blended) {
+        this.name = name;
+        this.seasonValues = seasonValues.clone();
+        this.blended = blended;
+    }
+
+    /**
+     * @return Whether this multiplier was declared with these values
+     */
+    boolean isDeclaredAs(float[] values, boolean isBlended) {
+        return blended == isBlended && Arrays.equals(seasonValues, values);
+    }
+
+    /**
+     * Fills the table, with the value at the start of each day for a blended multiplier.
+     */
+    void compile(SeasonCalendar calendar, float transitionWindow) {
+        float[] compiled = new float[calendar.yearLength()];
+        for (int day = 0; day < compiled.length; day++) {
+            compiled[day] = valueAt(SeasonBlend.at(calendar, day, transitionWindow));
+        }
+        table = compiled;
+    }
+
+    /**
+     * Resolves the value at the time of a season blend.
+     */
+    void resolve(SeasonBlend blend) {
+        value = valueAt(blend);
+    }
+
+    private float valueAt(SeasonBlend blend) {
+        if (blended) {
+            return blend.currentWeight() * valueOf(blend.current())
+                    + blend.adjacentWeight() * valueOf(blend.adjacent());
+        }
+        return valueOf(blend.current());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Whether the value fades between adjacent seasons
+     */
+    public boolean isBlended() {
+        return blended;
+    }
+
+    /**
+     * @param season A season
+     * @return The value declared for that season
+     */
+    public float valueOf(Season season) {
+        return seasonValues[season.ordinal()];
+    }
+
+    /**
+     * @return The value at the current time, as resolved in the last tick
+     */
+    public float get() {
+        return value;
+    }
+
+    /**
+     * @param day absolute day
+     * @return The value at the start of that day
+     */
+    public float onDay(int day) {
+        float[] current = table;
+        return current[Math.floorMod(day, current.length)];
+    }
+
+    @Override
+    public String toString() {
+        return name + (blended ? " (blended)" : "") + ": " + value;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Gameplay multipliers that modules declare per season, so they can read a ready value instead of looking up and
+ * switching on the season for every entity.
+ * <p>
+ * The season system compiles every multiplier whenever the calendar or the transition window changes and resolves
+ * their values once per tick; only it can do so, so the values always follow its calendar. Registration is meant to
+ * happen on the main thread; the values can be read anywhere.
+ */
+public class SeasonMultiplierRegistry {
+    private final List<SeasonMultiplier> multipliers = new CopyOnWriteArrayList<>();
+    private SeasonCalendar calendar;
+    private float transitionWindow;
+    private double days;
+    private SeasonBlend blend;
+
+    SeasonMultiplierRegistry(SeasonCalendar calendar, float transitionWindow) {
+        this.calendar = calendar;
+        this.transitionWindow = transitionWindow;
+        this.blend = SeasonBlend.at(calendar, 0, transitionWindow);
+    }
+
+    /**
+     * Declares a multiplier, or returns the one already declared under that name with the same values. Modules that
+     * share a multiplier have to agree on its values, as only one of them could take effect.
+     *
+     * @param name The name of the multiplier, e.g. "Crops:growth"
+     * @param seasonValues The value in each {@link Season}, indexed by its ordinal
+     * @param blended Whether the value fades between adjacent seasons within the transition window
+     * @return The multiplier
+     * @throws IllegalArgumentException If a multiplier with other values or blending is declared under that name
+     */
+    public SeasonMultiplier register(String name, float[] seasonValues, boolean blended) {
+        if (name == null || seasonValues == null) {
+            throw new IllegalArgumentException("Name and season values must not be null");
+        }
+        if (seasonValues.length != Season.values().length) {
+            throw new IllegalArgumentException("Multiplier " + name + " needs a value for each of the "
+                    + Season.values().length + " seasons");
+        }
+        SeasonMultiplier existing = get(name);
+        if (existing != null) {
+            if (!existing.isDeclaredAs(seasonValues, blended)) {
+                throw new IllegalArgumentException("Multiplier " + name + " is already declared with other values");
+            }
+            return existing;
+        }
+        SeasonMultiplier multiplier = new SeasonMultiplier(name, seasonValues, blended);
+        multiplier.compile(calendar, transitionWindow);
+        multiplier.resolve(blend);
+        multipliers.add(multiplier);
+        return multiplier;
+    }
+
+    /**
+     * @param name The name of a multiplier
+     * @return The multiplier, or null if none is declared under that name
+     */
+    public SeasonMultiplier get(String name) {
+        for (SeasonMultiplier multiplier : multipliers) {
+            if (multiplier.getName().equals(name)) {
+                return multiplier;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return All declared multipliers
+     */
+    public List<SeasonMultiplier> getMultipliers() {
+        return Collections.unmodifiableList(new ArrayList<>(multipliers));
+    }
+
+    /**
+     * Recompiles the tables of all multipliers for a calendar and transition window.
+     *
+     * @param newCalendar The calendar the seasons follow
+     * @param newTransitionWindow The length of the season transition window in days
+     */
+    void compile(SeasonCalendar newCalendar, float newTransitionWindow) {
+        calendar = newCalendar;
+        transitionWindow = newTransitionWindow;
+        blend = SeasonBlend.at(newCalendar, days, newTransitionWindow);
+        for (SeasonMultiplier multiplier : multipliers) {
+            multiplier.compile(newCalendar, newTransitionWindow);
+            multiplier.resolve(blend);
+        }
+    }
+
+    /**
+     * Resolves the values of all multipliers at a time, from the same {@link SeasonBlend} the climate uses.
+     *
+     * @param newDays The absolute day (+ time)
+     */
+    void resolve(double newDays) {
+        if (newDays == days) {
+            return;
+        }
+        days = newDays;
+        blend = SeasonBlend.at(calendar, newDays, transitionWindow);
+        for (SeasonMultiplier multiplier : multipliers) {
+            multiplier.resolve(blend);
+        }
+    }
+
+    void clear() {
+        multipliers.clear();
+    }
+}
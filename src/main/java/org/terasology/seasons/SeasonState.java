@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.seasons.curves.SeasonCurve;
+
+/**
+ * An immutable view of the seasons at one moment, as published by the {@link SeasonSystem} once per time quantum.
+ * <p>
+ * All values, including the seasonal climate offsets, are computed up front, so a state can be read from any thread
+ * without locking and always describes a single consistent moment.
+ */
+public final class SeasonState {
+    private final SeasonCalendar calendar;
+    private final long snapshotIndex;
+    private final long ticks;
+    private final double days;
+    private final int day;
+    private final int seasonIndex;
+    private final int dayOfSeason;
+    private final float yearProgress;
+    private final long year;
+    private final ClimateAnomaly anomaly;
+    private final float temperatureOffset;
+    private final float humidityOffset;
+    private final LatitudeModel latitudeModel;
+    private final float[] temperatureBands;
+    private final float[] humidityBands;
+    private final SeasonBlend blend;
+
+    private SeasonState(SeasonCalendar calendar, long snapshotIndex, long ticks,
+                        SeasonCurve temperatureCurve, SeasonCurve humidityCurve, LatitudeModel latitudeModel,
+                        float transitionWindow, ClimateAnomalies anomalies, float amplitude) {
+        this.calendar = calendar;
+        this.snapshotIndex = snapshotIndex;
+        this.ticks = ticks;
+        this.days = SeasonTime.days(ticks);
+        this.day = SeasonTime.dayOf(ticks);
+        int packedDay = calendar.packedOnDay(day);
+        this.seasonIndex = SeasonCalendar.seasonIndexOf(packedDay);
+        this.dayOfSeason = SeasonCalendar.dayOfSeasonOf(packedDay);
+        this.blend = SeasonBlend.compute(calendar, seasonIndex, dayOfSeason + (days - day), transitionWindow);
+        this.yearProgress = SeasonTime.yearProgress(ticks, calendar);
+        this.year = SeasonTime.yearOf(ticks, calendar);
+        this.anomaly = anomalies.at(ticks, calendar, transitionWindow);
+        this.temperatureOffset = anomaly.temperature(amplitude * temperatureCurve.evaluate(yearProgress));
+        this.humidityOffset = anomaly.humidity(amplitude * humidityCurve.evaluate(yearProgress));
+        this.latitudeModel = latitudeModel;
+
+        if (latitudeModel != null) {
+            temperatureBands = new float[latitudeModel.tableSize()];
+            humidityBands = new float[latitudeModel.tableSize()];
+            for (int band = 0; band < temperatureBands.length; band++) {
+                float bandYears = wrapYear(yearProgress + latitudeModel.bandPhase(band));
+                float bandAmplitude = amplitude * latitudeModel.bandAmplitude(band);
+                temperatureBands[band] = anomaly.temperature(bandAmplitude * temperatureCurve.evaluate(bandYears));
+                humidityBands[band] = anomaly.humidity(bandAmplitude * humidityCurve.evaluate(bandYears));
+            }
+        } else {
+            temperatureBands = null;
+            humidityBands = null;
+        }
+    }
+
+    /**
+     * Computes the state of the seasons at a moment.
+     *
+     * @param calendar The calendar the seasons follow
+     * @param snapshotIndex The time quantum the state belongs to
+     * @param ticks The world time in milliseconds
+     * @param temperatureCurve The seasonal temperature curve
+     * @param humidityCurve The seasonal humidity curve
+     * @param latitudeModel The latitude model, or null if the seasons are the same everywhere
+     * @param transitionWindow The length of the season transition window in days
+     * @param anomalies The climate anomalies that make each year differ from the average year
+     * @param amplitude The factor the seasonal curves are scaled by
+     * @return The computed state
+     */
+    static SeasonState compute(SeasonCalendar calendar, long snapshotIndex, long ticks, SeasonCurve temperatureCurve,
+                               SeasonCurve humidityCurve, LatitudeModel latitudeModel, float transitionWindow,
+                               ClimateAnomalies anomalies, float amplitude) {
+        return new SeasonState(calendar, snapshotIndex, ticks, temperatureCurve, humidityCurve, latitudeModel,
+                transitionWindow, anomalies, amplitude);
+    }
+
+    static float wrapYear(float years) {
+        return years - (float) Math.floor(years);
+    }
+
+    /**
+     * @return The calendar the seasons followed
+     */
+    public SeasonCalendar calendar() {
+        return calendar;
+    }
+
+    /**
+     * @return The time quantum the state was computed for
+     */
+    public long snapshotIndex() {
+        return snapshotIndex;
+    }
+
+    /**
+     * @return The world time in milliseconds
+     */
+    public long ticks() {
+        return ticks;
+    }
+
+    /**
+     * @return The world time in calendar days (+ time of day)
+     */
+    public double days() {
+        return days;
+    }
+
+    /**
+     * @return The absolute day
+     */
+    public int day() {
+        return day;
+    }
+
+    /**
+     * @return The index of the season in the calendar
+     */
+    public int seasonIndex() {
+        return seasonIndex;
+    }
+
+    /**
+     * @return The {@link Season} the current season behaves as
+     */
+    public Season season() {
+        return calendar.season(seasonIndex);
+    }
+
+    /**
+     * @return How many days into the season the day is
+     */
+    public int dayOfSeason() {
+        return dayOfSeason;
+    }
+
+    /**
+     * @return The blend of the current and adjacent season
+     */
+    public SeasonBlend blend() {
+        return blend;
+    }
+
+    /**
+     * @return The progress through the year, in [0, 1)
+     */
+    public float yearProgress() {
+        return yearProgress;
+    }
+
+    /**
+     * @return The year index, i.e. the number of full years since world time 0
+     */
+    public long year() {
+        return year;
+    }
+
+    /**
+     * @return How the climate of the year deviates from the average year
+     */
+    public ClimateAnomaly anomaly() {
+        return anomaly;
+    }
+
+    /**
+     * @return The seasonal temperature offset, ignoring the latitude model
+     */
+    public float temperatureOffset() {
+        return temperatureOffset;
+    }
+
+    /**
+     * @return The seasonal humidity offset, ignoring the latitude model
+     */
+    public float humidityOffset() {
+        return humidityOffset;
+    }
+
+    /**
+     * @param z The z coordinate, which determines the latitude
+     * @return The seasonal temperature offset at that latitude
+     */
+    public float temperatureOffset(float z) {
+        return temperatureBands == null ? temperatureOffset : temperatureBands[latitudeModel.bandIndex(z)];
+    }
+
+    /**
+     * @param z The z coordinate, which determines the latitude
+     * @return The seasonal humidity offset at that latitude
+     */
+    public float humidityOffset(float z) {
+        return humidityBands == null ? humidityOffset : humidityBands[latitudeModel.bandIndex(z)];
+    }
+
+    /**
+     * @return The latitude model, or null if the seasons were the same everywhere
+     */
+    public LatitudeModel latitudeModel() {
+        return latitudeModel;
+    }
+}
@@ -15,36 +15,96 @@
  */
 package org.terasology.seasons;
 
-import com.google.common.base.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.climateConditions.ClimateConditionsSystem;
 import org.terasology.climateConditions.ConditionModifier;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.prefab.Prefab;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.network.NetworkSystem;
 import org.terasology.engine.registry.In;
 import org.terasology.engine.registry.Share;
-import org.terasology.engine.utilities.StringUtility;
+import org.terasology.engine.utilities.Assets;
 import org.terasology.engine.world.WorldComponent;
 import org.terasology.engine.world.WorldProvider;
 import org.terasology.engine.world.sun.OnMidnightEvent;
 import org.terasology.engine.world.time.WorldTime;
+import org.terasology.gestalt.entitysystem.event.Event;
 import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
 import org.terasology.math.TeraMath;
-import org.terasology.seasons.events.OnSeasonChangeEvent;
+import org.terasology.seasons.curves.SeasonCurve;
+import org.terasology.seasons.curves.SineSeasonCurve;
+import org.terasology.seasons.listeners.SeasonListenerRegistry;
+import org.terasology.seasons.metrics.SeasonMetrics;
+import org.terasology.seasons.metrics.SeasonProbe;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Handles the passing of seasons.
+ * <p>
+ * The seasons follow a {@link SeasonCalendar}, taken from a {@link SeasonCalendarComponent} on the world entity, else
+ * the calendar the world was saved with, else the {@code Seasons:calendar} prefab, falling back to
+ * {@link SeasonCalendar#DEFAULT}.
+ * <p>
+ * The calendar, the last processed day and the climate anomalies are kept in a {@link SeasonComponent} on the world
+ * entity, which is saved with the world and replicated to clients.
+ * <p>
+ * The shape of the temperature and humidity offsets over the year comes from a {@link ClimateCurveComponent} on the
+ * world entity, else a {@code Seasons:climateCurves} prefab if a module provides one, else the built-in curves. Its
+ * keyframes are compiled into polynomial segments and swapped in whenever the component on the world entity changes.
+ * <p>
+ * The seasonal temperature and humidity offsets only depend on the time and, with a {@link LatitudeModel}, on the
+ * latitude band of a block. By default they are computed once per time quantum in {@link #update(float)} for every band
+ * and published as an immutable {@link SeasonState}, and the climate modifiers only add the cached value. Climate
+ * queries from other threads, such as chunk generators, therefore always see a consistent state, even during shutdown.
  *
  * @author DizzyDragon.
  */
 @RegisterSystem
 @Share(value = SeasonSystem.class)
-public class SeasonSystem extends BaseComponentSystem {
+public class SeasonSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    /**
+     * Default length of a climate snapshot in world time milliseconds; matches the engine's world time tick rate.
+     */
+    public static final long DEFAULT_SNAPSHOT_QUANTUM = WorldTime.TICK_EVENT_RATE;
+
+    /**
+     * The prefab holding the calendar used when the world entity doesn't define one.
+     */
+    public static final String CALENDAR_PREFAB = "Seasons:calendar";
+
+    /**
+     * The prefab holding the climate curves used when the world entity doesn't define them. This module doesn't ship
+     * it, so worlds keep the built-in curves unless a module provides it.
+     */
+    public static final String CLIMATE_CURVES_PREFAB = "Seasons:climateCurves";
+
+    /**
+     * Default maximum number of season change events sent for a single time skip.
+     */
+    public static final int DEFAULT_MAX_TRANSITION_EVENTS = 1;
+
+    /**
+     * How many events are held back at most while there is no world entity to send them to.
+     */
+    static final int MAX_PENDING_EVENTS = 64;
+
+    /**
+     * Default length of the window around a season transition in which the seasons blend, in days.
+     */
+    public static final float DEFAULT_TRANSITION_WINDOW = 1.0f;
+
     private static final Logger logger = LoggerFactory.getLogger(SeasonSystem.class);
-    private static final float TIME_SHIFT = 0.5f * WorldTime.DAY_LENGTH;
 
     @In
     private EntityManager entityManager;
@@ -55,40 +115,46 @@ public class SeasonSystem extends BaseComponentSystem {
     @In
     private WorldProvider world;
 
-    private WorldTime worldTime;
-    private double lastDay;
-    private double currentDay;
+    @In
+    private NetworkSystem networkSystem;
+
+    private volatile WorldTime worldTime;
 
     private float yearlyTemperatureAmplitude = 15;
     private float yearlyHumidityAmplitude = 0.4f;
 
-    private Function<Float, Float> yearlyTemperatureModifier =
-            new Function<Float, Float>() {
-                @Override
-                public Float apply(Float timeInYear) {
-                    // Temperature peaks in the middle of summer, bottoms in the middle of winter
-                    double x = Math.PI * (timeInYear * 2 - 0.25f);
-                    return yearlyTemperatureAmplitude / 2f * (float) Math.sin(x);
-                }
-            };
-
-    private Function<Float, Float> yearlyHumidityModifier =
-            new Function<Float, Float>() {
-                @Override
-                public Float apply(Float timeInYear) {
-                    // Humidity peaks in the middle of spring and fall, bottoms in the middle of summer and winter
-                    double x = Math.PI * (2 * timeInYear * 2);
-                    return yearlyHumidityAmplitude / 2f * (float) Math.sin(x);
-                }
-            };
+    // Temperature peaks in the middle of summer, bottoms in the middle of winter
+    private volatile SeasonCurve temperatureCurve = new SineSeasonCurve(yearlyTemperatureAmplitude / 2f, 1, 0.125f);
+    // Humidity peaks in the middle of spring and fall, bottoms in the middle of summer and winter
+    private volatile SeasonCurve humidityCurve = new SineSeasonCurve(yearlyHumidityAmplitude / 2f, 2, 0);
+
+    private volatile LatitudeModel latitudeModel;
+    private volatile ClimateAnomalies anomalies = ClimateAnomalies.NONE;
+    private volatile boolean climateSnapshotEnabled = true;
+    private volatile long snapshotQuantum = DEFAULT_SNAPSHOT_QUANTUM;
+    private volatile float transitionWindow = DEFAULT_TRANSITION_WINDOW;
+
+    private volatile SeasonMetrics metrics = SeasonMetrics.NO_OP;
+    private final SeasonListenerRegistry listeners = new SeasonListenerRegistry();
+    private final SeasonMultiplierRegistry multipliers = new SeasonMultiplierRegistry(SeasonCalendar.DEFAULT,
+            DEFAULT_TRANSITION_WINDOW);
+
+    private volatile DaylightModel daylightModel = DaylightModel.DEFAULT;
+
+    private final SeasonDimension primary = new SeasonDimension(SeasonDimension.PRIMARY, "primary", EntityRef.NULL,
+            SeasonCalendar.DEFAULT, 0, 1, SeasonState.compute(SeasonCalendar.DEFAULT, Long.MIN_VALUE, 0, temperatureCurve,
+            humidityCurve, null, transitionWindow, anomalies, 1), daylightModel);
+    private final SeasonDimensionRegistry dimensions = new SeasonDimensionRegistry(this, listeners, primary);
+    private volatile DimensionLocator dimensionLocator = DimensionLocator.PRIMARY_ONLY;
 
     @Override
     public void initialise() {
         worldTime = world.getTime();
-        lastDay = worldTime.getDays();
-        currentDay = worldTime.getDays();
+        primary.lastProcessedDay = dimensions.currentDay(primary);
+        primary.lastSeasonIndex = primary.calendar.seasonIndexOnDay(primary.lastProcessedDay);
+        publishState(true);
         if (logger.isInfoEnabled()) {
-            logger.info("Initializing SeasonSystem - {} {} {}", worldTime, lastDay, currentDay);
+            logger.info("Initializing SeasonSystem - {} {}", worldTime, primary.lastProcessedDay);
         }
     }
 
@@ -101,7 +167,11 @@ public class SeasonSystem extends BaseComponentSystem {
                     new ConditionModifier() {
                         @Override
                         public float getCondition(float value, float x, float y, float z) {
-                            return getHumidity(value);
+                            SeasonMetrics m = metrics;
+                            long start = m.begin(SeasonProbe.HUMIDITY_MODIFIER);
+                            float result = TeraMath.clamp(value + humidityOffsetAt(dimensionAt(x, y, z), z), 0, 1);
+                            m.end(SeasonProbe.HUMIDITY_MODIFIER, start);
+                            return result;
                         }
                     });
             climateConditionsSystem.addTemperatureModifier(
@@ -109,66 +179,904 @@ public class SeasonSystem extends BaseComponentSystem {
                     new ConditionModifier() {
                         @Override
                         public float getCondition(float value, float x, float y, float z) {
-                            return getTemperature(value);
+                            SeasonMetrics m = metrics;
+                            long start = m.begin(SeasonProbe.TEMPERATURE_MODIFIER);
+                            float result = value + temperatureOffsetAt(dimensionAt(x, y, z), z);
+                            m.end(SeasonProbe.TEMPERATURE_MODIFIER, start);
+                            return result;
                         }
                     });
         }
     }
 
+    @Override
+    public void postBegin() {
+        SeasonComponent saved = getWorldEntity(primary).getComponent(SeasonComponent.class);
+        // Copied, as setting the calendar persists the current state into the component
+        SeasonComponent stored = null;
+        if (saved != null) {
+            stored = new SeasonComponent();
+            stored.copyFrom(saved);
+        }
+        setCalendar(resolveCalendar(stored));
+        ClimateCurveComponent curves = resolveClimateCurves();
+        if (curves != null) {
+            setCurves(curves);
+        }
+        if (stored != null) {
+            restoreState(stored);
+        }
+        dimensions.persist(primary);
+    }
+
+    @Override
+    public void update(float delta) {
+        publishState(false);
+        SeasonState current = primary.state.get();
+        multipliers.resolve(current.days());
+        dimensions.update();
+        listeners.deliverPending();
+    }
+
     @Override
     public void shutdown() {
-        lastDay = 0.0;
-        currentDay = 0.0;
+        // Concurrent readers keep seeing the last published state
         worldTime = null;
+        dimensions.reset();
+        dimensionLocator = DimensionLocator.PRIMARY_ONLY;
+        primary.calendar = SeasonCalendar.DEFAULT;
+        primary.timeline = SeasonTimeline.DEFAULT;
+        primary.daylight = daylightModel.compile(SeasonCalendar.DEFAULT);
+        primary.worldEntity = EntityRef.NULL;
+        listeners.clear();
+        multipliers.clear();
+        multipliers.compile(SeasonCalendar.DEFAULT, transitionWindow);
     }
 
+    /**
+     * Starts the next day of the primary dimension. The engine fires midnight at the midnight of the world time, so the
+     * days of other dimensions, which may be shifted by their phase offset, are started by {@link #update} instead.
+     */
     @ReceiveEvent(components = WorldComponent.class)
     public void onMidnight(OnMidnightEvent event, EntityRef entity) {
-        lastDay = currentDay;
-        currentDay = worldTime.getDays();
+        if (dimensions.dimensionOf(entity) != primary) {
+            return;
+        }
+        SeasonMetrics m = metrics;
+        long start = m.begin(SeasonProbe.MIDNIGHT);
+        primary.worldEntity = entity;
+        dimensions.processDay(primary, dimensions.currentDay(primary));
+        m.end(SeasonProbe.MIDNIGHT, start);
+    }
 
-        Season s = Season.onDay(currentDay);
-        int d = Season.dayOfSeason(currentDay);
+    /**
+     * Takes over the season state the server replicated to this client.
+     */
+    @ReceiveEvent(components = {SeasonComponent.class, WorldComponent.class})
+    public void onSeasonComponentAdded(OnAddedComponent event, EntityRef entity) {
+        dimensions.adoptReplicatedState(entity);
+    }
 
-        if (logger.isInfoEnabled()) {
-            logger.info(String.format("%s day of %s", StringUtility.toOrdinalString(d), s.displayName()));
+    /**
+     * Takes over the season state the server replicated to this client.
+     */
+    @ReceiveEvent(components = {SeasonComponent.class, WorldComponent.class})
+    public void onSeasonComponentChanged(OnChangedComponent event, EntityRef entity) {
+        dimensions.adoptReplicatedState(entity);
+    }
+
+    /**
+     * Swaps in the climate curves configured on the world entity.
+     */
+    @ReceiveEvent(components = {ClimateCurveComponent.class, WorldComponent.class})
+    public void onClimateCurvesAdded(OnAddedComponent event, EntityRef entity) {
+        setCurves(entity.getComponent(ClimateCurveComponent.class));
+    }
+
+    /**
+     * Swaps in the climate curves configured on the world entity, e.g. after a designer edited them.
+     */
+    @ReceiveEvent(components = {ClimateCurveComponent.class, WorldComponent.class})
+    public void onClimateCurvesChanged(OnChangedComponent event, EntityRef entity) {
+        setCurves(entity.getComponent(ClimateCurveComponent.class));
+    }
+
+    public String getSeasonDayDescription() {
+        return getSeasonDayDescription(primary);
+    }
+
+    /**
+     * @param dimension A dimension
+     * @return The description of the current day in that dimension, e.g. "3rd day of summer"
+     */
+    public String getSeasonDayDescription(SeasonDimension dimension) {
+        SeasonMetrics m = metrics;
+        long start = m.begin(SeasonProbe.SEASON_LOOKUP);
+        String description = dimensions.describeDay(dimension, dimensions.currentDay(dimension));
+        m.end(SeasonProbe.SEASON_LOOKUP, start);
+        return description;
+    }
+
+    /**
+     * Returns the registry of season listeners. Unlike event handlers on the world entity, these listeners may have
+     * their events delivered in the next tick or spread over several ticks, and their execution times are recorded.
+     *
+     * @return The season listener registry
+     */
+    public SeasonListenerRegistry getListeners() {
+        return listeners;
+    }
+
+    /**
+     * Returns the registry of seasonal gameplay multipliers. Their values follow the calendar of the primary dimension
+     * and are resolved once per tick.
+     *
+     * @return The season multiplier registry
+     */
+    public SeasonMultiplierRegistry getMultipliers() {
+        return multipliers;
+    }
+
+    /**
+     * Registers the seasons of another world or dimension. If its world entity has a {@link SeasonComponent} from an
+     * earlier session, the dimension continues from there and reports the days and season transitions missed since;
+     * otherwise its seasons start in the season the calendar has on the current day, without events for the seasons
+     * before. The given calendar takes precedence over the one the dimension was saved with.
+     *
+     * @param name The name of the dimension
+     * @param worldEntity The world entity of the dimension, which receives its season events
+     * @param calendar The calendar of the dimension
+     * @param phaseOffset How far the seasons of the dimension are ahead of the world time, in milliseconds
+     * @param amplitude The factor the seasonal climate offsets of the dimension are scaled by
+     * @return The registered dimension, with the next free id
+     */
+    public synchronized SeasonDimension registerDimension(String name, EntityRef worldEntity, SeasonCalendar calendar,
+                                                          long phaseOffset, float amplitude) {
+        if (name == null || worldEntity == null || calendar == null) {
+            throw new IllegalArgumentException("Name, world entity and calendar must not be null");
         }
+        return dimensions.register(name, worldEntity, calendar, phaseOffset, amplitude);
+    }
 
-        if (seasonChanged()) {
-            broadcastSeasonChangeEvent();
+    /**
+     * Removes a dimension. Its id isn't reused; positions the {@link DimensionLocator} still puts there fall back to the
+     * primary dimension.
+     *
+     * @param dimension The dimension to remove, not the primary one
+     */
+    public synchronized void unregisterDimension(SeasonDimension dimension) {
+        if (dimension == primary) {
+            throw new IllegalArgumentException("The primary season dimension can't be removed");
         }
+        dimensions.unregister(dimension);
     }
 
-    public String getSeasonDayDescription() {
-        float days = worldTime.getDays() + TIME_SHIFT;
-        Season s = Season.onDay(days);
-        int d = Season.dayOfSeason(days);
+    /**
+     * @param id The id of a dimension
+     * @return The dimension, or null if there is none with that id
+     */
+    public SeasonDimension getDimension(int id) {
+        return dimensions.get(id);
+    }
+
+    /**
+     * @return The primary dimension, the main world
+     */
+    public SeasonDimension getPrimaryDimension() {
+        return primary;
+    }
+
+    /**
+     * @return All registered dimensions, the primary one first
+     */
+    public List<SeasonDimension> getDimensions() {
+        return dimensions.list();
+    }
+
+    /**
+     * Sets how climate queries find the dimension of a position.
+     *
+     * @param locator The dimension locator, e.g. {@link DimensionLocator#PRIMARY_ONLY}
+     */
+    public void setDimensionLocator(DimensionLocator locator) {
+        if (locator == null) {
+            throw new IllegalArgumentException("Dimension locator must not be null");
+        }
+        dimensionLocator = locator;
+    }
+
+    /**
+     * Returns the calendar the seasons of the primary dimension currently follow.
+     *
+     * @return The active season calendar
+     */
+    public SeasonCalendar getCalendar() {
+        return primary.calendar;
+    }
+
+    /**
+     * Replaces the calendar the seasons of the primary dimension follow.
+     *
+     * @param calendar The new season calendar
+     */
+    public void setCalendar(SeasonCalendar calendar) {
+        setCalendar(primary, calendar);
+    }
+
+    /**
+     * Replaces the calendar the seasons of a dimension follow.
+     *
+     * @param dimension The dimension
+     * @param calendar The new season calendar
+     */
+    public void setCalendar(SeasonDimension dimension, SeasonCalendar calendar) {
+        if (calendar == null) {
+            throw new IllegalArgumentException("Season calendar must not be null");
+        }
+        dimension.calendar = calendar;
+        dimension.timeline = new SeasonTimeline(calendar);
+        dimension.daylight = daylightModel.compile(calendar);
+        if (dimension == primary) {
+            multipliers.compile(calendar, transitionWindow);
+        }
+        publishState(dimension, true);
+        dimensions.persist(dimension);
+    }
+
+    /**
+     * Returns the timeline of the calendar the seasons currently follow, for questions like "how many days until
+     * winter?" or "which seasons start between these days?".
+     *
+     * @return The timeline of the active season calendar
+     */
+    public SeasonTimeline getTimeline() {
+        return primary.timeline;
+    }
+
+    /**
+     * Returns the sunrise, sunset and daylight fraction of every day of the calendar of the primary dimension,
+     * precomputed whenever the calendar or the daylight model changes. Safe to call from any thread.
+     *
+     * @return The daylight table of the current calendar
+     */
+    public DaylightTable getDaylight() {
+        return primary.daylight;
+    }
+
+    public DaylightModel getDaylightModel() {
+        return daylightModel;
+    }
+
+    /**
+     * Replaces the model of the day length over the year and recomputes the daylight tables of all dimensions.
+     *
+     * @param model The new daylight model
+     */
+    public synchronized void setDaylightModel(DaylightModel model) {
+        if (model == null) {
+            throw new IllegalArgumentException("Daylight model must not be null");
+        }
+        daylightModel = model;
+        for (SeasonDimension dimension : dimensions.all()) {
+            if (dimension != null) {
+                dimension.daylight = model.compile(dimension.calendar);
+            }
+        }
+    }
+
+    /**
+     * Whether the climate modifiers read the per-quantum snapshot (the default) or recompute the seasonal offsets on
+     * every query.
+     *
+     * @return true if the climate snapshot is used
+     */
+    public boolean isClimateSnapshotEnabled() {
+        return climateSnapshotEnabled;
+    }
+
+    /**
+     * Switches the climate modifiers between the per-quantum snapshot and per-query recomputation.
+     *
+     * @param enabled true to use the climate snapshot
+     */
+    public void setClimateSnapshotEnabled(boolean enabled) {
+        climateSnapshotEnabled = enabled;
+    }
+
+    /**
+     * Sets how much world time, in milliseconds, a single climate snapshot covers.
+     *
+     * @param quantum the snapshot length in world time milliseconds, must be > 0
+     */
+    public void setSnapshotQuantum(long quantum) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("Snapshot quantum must be > 0");
+        }
+        snapshotQuantum = quantum;
+        publishState(true);
+    }
+
+    /**
+     * Returns how many season change events a single time skip may cause at most.
+     *
+     * @return The maximum number of events per time skip
+     */
+    public int getMaxTransitionEvents() {
+        return dimensions.getMaxTransitionEvents();
+    }
+
+    /**
+     * Sets how many season change events a single time skip may cause at most. A skip across up to this many season
+     * transitions sends one event per transition; a longer skip sends a single coalesced event carrying the number of
+     * transitions. With a maximum of 1 every skip is reported by one event. A skip backwards in time is always
+     * reported by one event with a negative number of transitions.
+     *
+     * @param maxEvents The maximum number of events per time skip, must be >= 1
+     */
+    public void setMaxTransitionEvents(int maxEvents) {
+        if (maxEvents < 1) {
+            throw new IllegalArgumentException("Maximum number of transition events must be >= 1");
+        }
+        dimensions.setMaxTransitionEvents(maxEvents);
+    }
+
+    /**
+     * Returns the state of the seasons of the primary dimension published for the current time quantum. Safe to call
+     * from any thread.
+     *
+     * @return The current season state
+     */
+    public SeasonState getState() {
+        SeasonMetrics m = metrics;
+        long start = m.begin(SeasonProbe.SEASON_LOOKUP);
+        SeasonState current = primary.state.get();
+        m.end(SeasonProbe.SEASON_LOOKUP, start);
+        return current;
+    }
+
+    /**
+     * Returns how the current season blends with an adjacent one, as computed for the current time quantum. Safe to
+     * call from any thread, and as cheap as a field read.
+     *
+     * @return The current season blend
+     */
+    public SeasonBlend getBlend() {
+        return primary.state.get().blend();
+    }
+
+    /**
+     * @return The length of the window around a season transition in which the seasons blend, in days
+     */
+    public float getTransitionWindow() {
+        return transitionWindow;
+    }
+
+    /**
+     * Sets the length of the window around a season transition in which the seasons blend. It is limited to the length
+     * of the seasons involved.
+     *
+     * @param days The length of the transition window in days, 0 for discrete transitions
+     */
+    public void setTransitionWindow(float days) {
+        if (!(days >= 0)) {
+            throw new IllegalArgumentException("Transition window must be >= 0");
+        }
+        transitionWindow = days;
+        multipliers.compile(primary.calendar, days);
+        publishState(true);
+    }
+
+    /**
+     * Returns the metrics the season system records into.
+     *
+     * @return The season metrics; {@link SeasonMetrics#NO_OP} unless metrics were switched on
+     */
+    public SeasonMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics the season system records into.
+     *
+     * @param metrics The season metrics, e.g. {@link SeasonMetrics#NO_OP} to record nothing
+     */
+    public void setMetrics(SeasonMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Season metrics must not be null");
+        }
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the current seasonal adjustment of a climate channel in the primary dimension, ignoring the latitude
+     * model.
+     *
+     * @param channel The climate channel
+     * @return The seasonal offset of that channel
+     */
+    public float getSeasonalOffset(ClimateChannel channel) {
+        return regionOffset(primary, channel);
+    }
+
+    /**
+     * Returns the current seasonal adjustment of a climate channel at a latitude of the primary dimension.
+     *
+     * @param channel The climate channel
+     * @param z The z coordinate, which determines the latitude
+     * @return The seasonal offset of that channel
+     */
+    public float getSeasonalOffset(ClimateChannel channel, float z) {
+        return getSeasonalOffset(primary, channel, z);
+    }
+
+    /**
+     * Returns the current seasonal adjustment of a climate channel at a position, as added to the base value by the
+     * climate modifiers. The dimension of the position is found by the {@link DimensionLocator}.
+     *
+     * @param channel The climate channel
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate, which determines the latitude
+     * @return The seasonal offset of that channel
+     */
+    public float getSeasonalOffset(ClimateChannel channel, float x, float y, float z) {
+        return getSeasonalOffset(dimensionAt(x, y, z), channel, z);
+    }
+
+    /**
+     * Returns the current seasonal adjustment of a climate channel at a latitude of a dimension.
+     *
+     * @param dimension The dimension
+     * @param channel The climate channel
+     * @param z The z coordinate, which determines the latitude
+     * @return The seasonal offset of that channel
+     */
+    public float getSeasonalOffset(SeasonDimension dimension, ClimateChannel channel, float z) {
+        switch (channel) {
+            case TEMPERATURE:
+                return temperatureOffsetAt(dimension, z);
+            case HUMIDITY:
+                return humidityOffsetAt(dimension, z);
+            default:
+                throw new IllegalArgumentException("Unknown climate channel " + channel);
+        }
+    }
+
+    /**
+     * Applies the seasonal adjustment of a climate channel in place to a whole region of base values, such as a
+     * chunk's surface or all of its blocks. The seasonal term is computed once for the region, ignoring the latitude
+     * model; humidity is clamped to [0, 1].
+     *
+     * @param channel The climate channel the values belong to
+     * @param values The base values, replaced by the adjusted values
+     */
+    public void applySeasonalAdjustment(ClimateChannel channel, float[] values) {
+        applySeasonalAdjustment(primary, channel, values);
+    }
+
+    /**
+     * Applies the seasonal adjustment of a climate channel in a dimension in place to a whole region of base values.
+     * The seasonal term is computed once for the region, ignoring the latitude model; humidity is clamped to [0, 1].
+     *
+     * @param dimension The dimension the region belongs to
+     * @param channel The climate channel the values belong to
+     * @param values The base values, replaced by the adjusted values
+     */
+    public void applySeasonalAdjustment(SeasonDimension dimension, ClimateChannel channel, float[] values) {
+        applySeasonalAdjustment(dimension, channel, values, 0, values.length);
+    }
+
+    /**
+     * Applies the seasonal adjustment of a climate channel in place to a range of base values. The seasonal term is
+     * computed once for the range, ignoring the latitude model; humidity is clamped to [0, 1].
+     *
+     * @param channel The climate channel the values belong to
+     * @param values The base values, replaced by the adjusted values
+     * @param offset The index of the first value to adjust
+     * @param length The number of values to adjust
+     */
+    public void applySeasonalAdjustment(ClimateChannel channel, float[] values, int offset, int length) {
+        applySeasonalAdjustment(primary, channel, values, offset, length);
+    }
+
+    /**
+     * Applies the seasonal adjustment of a climate channel in a dimension in place to a range of base values. The
+     * seasonal term is computed once for the range, ignoring the latitude model; humidity is clamped to [0, 1].
+     *
+     * @param dimension The dimension the values belong to
+     * @param channel The climate channel the values belong to
+     * @param values The base values, replaced by the adjusted values
+     * @param offset The index of the first value to adjust
+     * @param length The number of values to adjust
+     */
+    public void applySeasonalAdjustment(SeasonDimension dimension, ClimateChannel channel, float[] values, int offset,
+                                        int length) {
+        applyOffset(channel, regionOffset(dimension, channel), values, offset, length);
+    }
+
+    /**
+     * Applies the seasonal adjustment of a climate channel in place to a range of base values that share a latitude,
+     * such as a row of a chunk's surface along the x axis. Humidity is clamped to [0, 1].
+     *
+     * @param channel The climate channel the values belong to
+     * @param values The base values, replaced by the adjusted values
+     * @param offset The index of the first value to adjust
+     * @param length The number of values to adjust
+     * @param z The z coordinate shared by the values
+     */
+    public void applySeasonalAdjustment(ClimateChannel channel, float[] values, int offset, int length, float z) {
+        applySeasonalAdjustment(primary, channel, values, offset, length, z);
+    }
+
+    /**
+     * Applies the seasonal adjustment of a climate channel in a dimension in place to a range of base values that
+     * share a latitude. Humidity is clamped to [0, 1].
+     *
+     * @param dimension The dimension the values belong to
+     * @param channel The climate channel the values belong to
+     * @param values The base values, replaced by the adjusted values
+     * @param offset The index of the first value to adjust
+     * @param length The number of values to adjust
+     * @param z The z coordinate shared by the values
+     */
+    public void applySeasonalAdjustment(SeasonDimension dimension, ClimateChannel channel, float[] values, int offset,
+                                        int length, float z) {
+        applyOffset(channel, getSeasonalOffset(dimension, channel, z), values, offset, length);
+    }
+
+    /**
+     * Returns the model that varies the seasons with latitude.
+     *
+     * @return The latitude model, or null if the seasons are the same everywhere
+     */
+    public LatitudeModel getLatitudeModel() {
+        return latitudeModel;
+    }
+
+    /**
+     * Sets the model that varies the seasons with latitude.
+     *
+     * @param model The latitude model, or null to have the same seasons everywhere
+     */
+    public void setLatitudeModel(LatitudeModel model) {
+        latitudeModel = model;
+        publishState(true);
+    }
+
+    /**
+     * Returns the anomalies that make the climate of each year differ from the average year.
+     *
+     * @return The climate anomalies; {@link ClimateAnomalies#NONE} unless the world opted in
+     */
+    public ClimateAnomalies getClimateAnomalies() {
+        return anomalies;
+    }
+
+    /**
+     * Sets the anomalies that make the climate of each year differ from the average year. Worlds have none unless they
+     * opt in, e.g. with {@code ClimateAnomalies.withDefaults(ClimateAnomalies.seedOf(worldSeed))}, so the climate of
+     * existing worlds doesn't change; the choice is saved with the world.
+     *
+     * @param anomalies The climate anomalies, e.g. {@link ClimateAnomalies#NONE} for identical years
+     */
+    public void setClimateAnomalies(ClimateAnomalies anomalies) {
+        if (anomalies == null) {
+            throw new IllegalArgumentException("Climate anomalies must not be null");
+        }
+        this.anomalies = anomalies;
+        publishState(true);
+        dimensions.persist(primary);
+    }
+
+    /**
+     * Returns the curve that adjusts the given climate channel over the year.
+     *
+     * @param channel The climate channel
+     * @return The seasonal curve of that channel
+     */
+    public SeasonCurve getCurve(ClimateChannel channel) {
+        switch (channel) {
+            case TEMPERATURE:
+                return temperatureCurve;
+            case HUMIDITY:
+                return humidityCurve;
+            default:
+                throw new IllegalArgumentException("Unknown climate channel " + channel);
+        }
+    }
+
+    /**
+     * Replaces the curve that adjusts the given climate channel over the year. The curve's value is added to the base
+     * value of the channel; humidity is clamped to [0, 1] afterwards.
+     *
+     * @param channel The climate channel
+     * @param curve The new seasonal curve, evaluated with the progress through the year in [0, 1)
+     */
+    public void setCurve(ClimateChannel channel, SeasonCurve curve) {
+        if (curve == null) {
+            throw new IllegalArgumentException("Seasonal curve must not be null");
+        }
+        switch (channel) {
+            case TEMPERATURE:
+                temperatureCurve = curve;
+                break;
+            case HUMIDITY:
+                humidityCurve = curve;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown climate channel " + channel);
+        }
+        publishState(true);
+    }
+
+    /**
+     * Compiles the keyframes of a curve component and swaps in the curves of the channels that have keyframes. Invalid
+     * keyframes are logged and leave the current curves in place.
+     *
+     * @param component The climate curves
+     */
+    public void setCurves(ClimateCurveComponent component) {
+        SeasonCurve temperature;
+        SeasonCurve humidity;
+        try {
+            temperature = component.compile(ClimateChannel.TEMPERATURE);
+            humidity = component.compile(ClimateChannel.HUMIDITY);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid climate curve keyframes, keeping the current curves", e);
+            return;
+        }
+        if (temperature != null) {
+            temperatureCurve = temperature;
+        }
+        if (humidity != null) {
+            humidityCurve = humidity;
+        }
+        publishState(true);
+    }
+
+    /**
+     * Publishes a new season state if the world time has entered a new quantum.
+     */
+    void refreshClimateSnapshot() {
+        publishState(false);
+    }
 
-        return String.format("%s day of %s", StringUtility.toOrdinalString(d + 1), s.displayName());
+    /**
+     * Binds the system to a world time and climate system without engine injection; used by benchmarks.
+     */
+    void bind(WorldTime time, ClimateConditionsSystem climate) {
+        worldTime = time;
+        climateConditionsSystem = climate;
+        primary.lastProcessedDay = dimensions.currentDay(primary);
+        primary.lastSeasonIndex = primary.calendar.seasonIndexOnDay(primary.lastProcessedDay);
+        publishState(true);
     }
 
-    private float getTemperature(float baseValue) {
-        float days = worldTime.getDays() + TIME_SHIFT;
-        float years = days / Season.YEAR_LENGTH_IN_DAYS;
-        return baseValue + yearlyTemperatureModifier.apply(years);
+    /**
+     * Writes the persistent season state of the primary dimension into a component.
+     */
+    void writeState(SeasonComponent component) {
+        dimensions.writeState(primary, component);
     }
 
-    private float getHumidity(float baseValue) {
-        float days = worldTime.getDays() + TIME_SHIFT;
-        float years = days / Season.YEAR_LENGTH_IN_DAYS;
-        return TeraMath.clamp(baseValue + yearlyHumidityModifier.apply(years), 0, 1);
+    /**
+     * Continues from a persisted season state: takes over the climate anomalies and last processed day and, on the
+     * authority, reports the day and season transitions that were missed since then. The calendar is restored
+     * separately, as a calendar configured on the world entity takes precedence.
+     */
+    void restoreState(SeasonComponent stored) {
+        dimensions.restoreState(primary, stored);
     }
 
-    private boolean seasonChanged() {
-        return Season.onDay(lastDay) != Season.onDay(currentDay);
+    /**
+     * Takes over the climate anomalies the primary dimension was saved or replicated with, unless they are the same.
+     */
+    void restoreClimateAnomalies(ClimateAnomalies restored) {
+        if (!anomalies.sameAs(restored)) {
+            anomalies = restored;
+            publishState(true);
+        }
+    }
+
+    /**
+     * Sends all season events to an observer instead of the world entity; used by headless simulations. The observer
+     * stands in for the world entity of every dimension, so events held back while there was neither are sent to it.
+     *
+     * @param observer The observer, or null to send events to the world entity again
+     */
+    void observeEvents(Consumer<Event> observer) {
+        dimensions.observeEvents(observer);
+    }
+
+    /**
+     * Computes and publishes the season state of the current time quantum. Readers never block; writers, which only
+     * run once per quantum or on configuration changes, are serialized so no configuration change gets lost.
+     *
+     * @param force Whether to publish even if the quantum hasn't changed, e.g. because the configuration did
+     */
+    private synchronized void publishState(boolean force) {
+        for (SeasonDimension dimension : dimensions.all()) {
+            if (dimension != null) {
+                publishState(dimension, force);
+            }
+        }
     }
 
-    private void broadcastSeasonChangeEvent() {
-        OnSeasonChangeEvent event = new OnSeasonChangeEvent(Season.onDay(lastDay), Season.onDay(currentDay));
-        getWorldEntity().send(event);
+    /**
+     * Publishes the season state of one dimension, see {@link #publishState(boolean)}.
+     */
+    synchronized void publishState(SeasonDimension dimension, boolean force) {
+        WorldTime time = worldTime;
+        SeasonState current = dimension.state.get();
+        long index;
+        long ticks;
+        if (time != null) {
+            long worldTicks = time.getMilliseconds();
+            index = Math.floorDiv(worldTicks, snapshotQuantum);
+            if (!force && index == current.snapshotIndex()) {
+                return;
+            }
+            ticks = dimension.ticks(worldTicks);
+        } else if (force) {
+            index = current.snapshotIndex();
+            ticks = current.ticks();
+        } else {
+            return;
+        }
+        dimension.state.set(SeasonState.compute(dimension.calendar, index, ticks, temperatureCurve, humidityCurve,
+                latitudeModel, transitionWindow, anomalies, dimension.getAmplitude()));
+    }
+
+    /**
+     * Finds the dimension of a position in O(1): the locator gives the id, which indexes the dimension array.
+     */
+    private SeasonDimension dimensionAt(float x, float y, float z) {
+        SeasonDimension[] current = dimensions.all();
+        int id = dimensionLocator.dimensionAt(x, y, z);
+        if (id >= 0 && id < current.length) {
+            SeasonDimension dimension = current[id];
+            if (dimension != null) {
+                return dimension;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * @return The world time, or null before initialisation and after shutdown
+     */
+    WorldTime worldTime() {
+        return worldTime;
+    }
+
+    boolean isAuthority() {
+        return networkSystem == null || networkSystem.getMode().isAuthority();
+    }
+
+    /**
+     * Returns the seasonal offset of a channel in a dimension, ignoring the latitude model.
+     */
+    private float regionOffset(SeasonDimension dimension, ClimateChannel channel) {
+        switch (channel) {
+            case TEMPERATURE:
+                return climateSnapshotEnabled ? dimension.state.get().temperatureOffset()
+                        : evaluateAt(dimension, channel, null, 0);
+            case HUMIDITY:
+                return climateSnapshotEnabled ? dimension.state.get().humidityOffset()
+                        : evaluateAt(dimension, channel, null, 0);
+            default:
+                throw new IllegalArgumentException("Unknown climate channel " + channel);
+        }
     }
 
-    private EntityRef getWorldEntity() {
-        return entityManager.getEntitiesWith(WorldComponent.class).iterator().next();
+    private float temperatureOffsetAt(SeasonDimension dimension, float z) {
+        if (climateSnapshotEnabled) {
+            return dimension.state.get().temperatureOffset(z);
+        }
+        return evaluateAt(dimension, ClimateChannel.TEMPERATURE, latitudeModel, z);
+    }
+
+    private float humidityOffsetAt(SeasonDimension dimension, float z) {
+        if (climateSnapshotEnabled) {
+            return dimension.state.get().humidityOffset(z);
+        }
+        return evaluateAt(dimension, ClimateChannel.HUMIDITY, latitudeModel, z);
+    }
+
+    private float evaluateAt(SeasonDimension dimension, ClimateChannel channel, LatitudeModel model, float z) {
+        WorldTime time = worldTime;
+        SeasonState current = dimension.state.get();
+        float years;
+        if (time != null) {
+            years = SeasonTime.yearProgress(dimension.ticks(time.getMilliseconds()), dimension.calendar);
+        } else {
+            years = current.yearProgress();
+        }
+        SeasonCurve curve = getCurve(channel);
+        float offset;
+        if (model == null) {
+            offset = dimension.getAmplitude() * curve.evaluate(years);
+        } else {
+            int band = model.bandIndex(z);
+            offset = dimension.getAmplitude() * model.bandAmplitude(band)
+                    * curve.evaluate(SeasonState.wrapYear(years + model.bandPhase(band)));
+        }
+        // The anomaly only changes around new year, so the one of the current quantum is used
+        ClimateAnomaly anomaly = current.anomaly();
+        return channel == ClimateChannel.TEMPERATURE ? anomaly.temperature(offset) : anomaly.humidity(offset);
+    }
+
+    private static void applyOffset(ClimateChannel channel, float seasonalOffset, float[] values, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, values.length);
+        int end = offset + length;
+        if (channel == ClimateChannel.HUMIDITY) {
+            for (int i = offset; i < end; i++) {
+                values[i] = Math.min(Math.max(values[i] + seasonalOffset, 0f), 1f);
+            }
+        } else {
+            for (int i = offset; i < end; i++) {
+                values[i] += seasonalOffset;
+            }
+        }
+    }
+
+    /**
+     * Resolves the calendar of the world: the one configured on the world entity, else the one the world was saved
+     * with, else the one of the calendar prefab, else the default calendar.
+     */
+    private SeasonCalendar resolveCalendar(SeasonComponent stored) {
+        try {
+            SeasonCalendarComponent component = getWorldEntity(primary).getComponent(SeasonCalendarComponent.class);
+            if (component != null) {
+                return SeasonCalendar.compile(component);
+            }
+            if (stored != null && !stored.calendar.isEmpty()) {
+                return SeasonCalendar.compile(stored.calendar);
+            }
+            Optional<Prefab> prefab = Assets.getPrefab(CALENDAR_PREFAB);
+            if (prefab.isPresent() && prefab.get().hasComponent(SeasonCalendarComponent.class)) {
+                return SeasonCalendar.compile(prefab.get().getComponent(SeasonCalendarComponent.class));
+            }
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid season calendar, using the default calendar", e);
+        }
+        return SeasonCalendar.DEFAULT;
+    }
+
+    /**
+     * Resolves the climate curves of the world: the ones configured on the world entity, else the ones of the climate
+     * curves prefab.
+     *
+     * @return The climate curves, or null to keep the built-in ones
+     */
+    private ClimateCurveComponent resolveClimateCurves() {
+        ClimateCurveComponent component = getWorldEntity(primary).getComponent(ClimateCurveComponent.class);
+        if (component != null) {
+            return component;
+        }
+        Optional<Prefab> prefab = Assets.getPrefab(CLIMATE_CURVES_PREFAB);
+        if (prefab.isPresent() && prefab.get().hasComponent(ClimateCurveComponent.class)) {
+            return prefab.get().getComponent(ClimateCurveComponent.class);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the world entity of a dimension. The one of the primary dimension is cached and only looked up again if
+     * the cached one is gone.
+     *
+     * @return The world entity, or {@link EntityRef#NULL} if there is none
+     */
+    EntityRef getWorldEntity(SeasonDimension dimension) {
+        if (dimension == primary && !primary.worldEntity.exists() && entityManager != null) {
+            primary.worldEntity = EntityRef.NULL;
+            for (EntityRef entity : entityManager.getEntitiesWith(WorldComponent.class)) {
+                if (dimensions.dimensionOf(entity) == primary) {
+                    primary.worldEntity = entity;
+                    break;
+                }
+            }
+        }
+        return dimension.worldEntity;
     }
 }
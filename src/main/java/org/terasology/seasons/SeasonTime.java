@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.world.time.WorldTime;
+
+/**
+ * Exact conversions from world time in milliseconds to calendar days and years, using integer arithmetic only.
+ * <p>
+ * A world time day starts at dawn, and the engine fires its {@code OnMidnightEvent} three quarters of a
+ * {@link WorldTime#DAY_LENGTH} into it, after midday at a quarter and dusk at half. A calendar day runs from one such
+ * midnight to the next, so the seasons change exactly when the engine reports midnight.
+ * <p>
+ * Unlike {@link WorldTime#getDays()}, which is a {@code float}, these conversions stay exact no matter how long a world
+ * has been running.
+ */
+public final class SeasonTime {
+    /**
+     * How far into a world time day the calendar day starts, in milliseconds: the time of day at which the engine's
+     * {@code WorldTimeImpl} fires {@code OnMidnightEvent}.
+     */
+    public static final long MIDNIGHT = WorldTime.DAY_LENGTH * 3 / 4;
+
+    // Shifts world time so calendar days start at multiples of the day length
+    private static final long DAY_OFFSET = WorldTime.DAY_LENGTH - MIDNIGHT;
+
+    private SeasonTime() {
+    }
+
+    /**
+     * @param ticks The world time in milliseconds
+     * @return The calendar day the time is on
+     */
+    public static int dayOf(long ticks) {
+        return Math.toIntExact(Math.floorDiv(ticks + DAY_OFFSET, WorldTime.DAY_LENGTH));
+    }
+
+    /**
+     * @param ticks The world time in milliseconds
+     * @return How far into its calendar day the time is, in milliseconds
+     */
+    public static long timeOfDay(long ticks) {
+        return Math.floorMod(ticks + DAY_OFFSET, WorldTime.DAY_LENGTH);
+    }
+
+    /**
+     * @param day The calendar day
+     * @return The world time in milliseconds at which the day starts
+     */
+    public static long startOfDay(int day) {
+        return day * WorldTime.DAY_LENGTH - DAY_OFFSET;
+    }
+
+    /**
+     * @param ticks The world time in milliseconds
+     * @return The world time in calendar days, e.g. 2.25 a quarter into day 2
+     */
+    public static double days(long ticks) {
+        return dayOf(ticks) + timeOfDay(ticks) / (double) WorldTime.DAY_LENGTH;
+    }
+
+    /**
+     * @param calendar The calendar
+     * @return The length of a year of the calendar in milliseconds
+     */
+    public static long yearLength(SeasonCalendar calendar) {
+        return calendar.yearLength() * WorldTime.DAY_LENGTH;
+    }
+
+    /**
+     * @param ticks The world time in milliseconds
+     * @param calendar The calendar
+     * @return The year index of the time, i.e. the number of full years since world time 0
+     */
+    public static long yearOf(long ticks, SeasonCalendar calendar) {
+        return Math.floorDiv(ticks + DAY_OFFSET, yearLength(calendar));
+    }
+
+    /**
+     * @param ticks The world time in milliseconds
+     * @param calendar The calendar
+     * @return The progress through the year, in [0, 1)
+     */
+    public static float yearProgress(long ticks, SeasonCalendar calendar) {
+        long yearLength = yearLength(calendar);
+        float progress = (float) (Math.floorMod(ticks + DAY_OFFSET, yearLength) / (double) yearLength);
+        // Rounding to float may reach 1 just before the end of the year
+        return progress < 1 ? progress : 0;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Answers questions about when seasons start and end, in closed form from the layout of a {@link SeasonCalendar}.
+ * <p>
+ * Point queries cost O(1), or O(number of seasons) when asking for a {@link Season} that several calendar seasons
+ * behave as. Range queries return lazy iterables that compute each transition only when it is requested.
+ */
+public final class SeasonTimeline {
+    /**
+     * The timeline of the default calendar, i.e. of the {@link Season} enumeration.
+     */
+    public static final SeasonTimeline DEFAULT = new SeasonTimeline(SeasonCalendar.DEFAULT);
+
+    private final SeasonCalendar calendar;
+
+    public SeasonTimeline(SeasonCalendar calendar) {
+        this.calendar = calendar;
+    }
+
+    public SeasonCalendar calendar() {
+        return calendar;
+    }
+
+    /**
+     * Returns the day on which the season of a day started.
+     *
+     * @param day absolute day
+     * @return The absolute first day of the season that day belongs to
+     */
+    public int startOfSeason(int day) {
+        return day - calendar.dayOfSeason(day);
+    }
+
+    /**
+     * Returns the first day after a day on which a new season starts.
+     *
+     * @param day absolute day
+     * @return The absolute day of the next season transition
+     */
+    public int nextTransition(int day) {
+        return startOfSeason(day) + calendar.lengthInDays(calendar.seasonIndexOnDay(day));
+    }
+
+    /**
+     * Returns the first day after a day on which a season of the calendar starts.
+     *
+     * @param day absolute day
+     * @param seasonIndex The index of the season in the calendar
+     * @return The absolute day on which the season next starts
+     */
+    public int nextStart(int day, int seasonIndex) {
+        if (calendar.lengthInDays(seasonIndex) == 0) {
+            throw new IllegalArgumentException("Season " + calendar.displayName(seasonIndex) + " never occurs");
+        }
+        int start = day - calendar.dayOfYear(day) + calendar.firstDay(seasonIndex);
+        return start > day ? start : start + calendar.yearLength();
+    }
+
+    /**
+     * Returns the first day after a day on which a season behaving as the given {@link Season} starts.
+     *
+     * @param day absolute day
+     * @param season The season
+     * @return The absolute day on which the season next starts, or {@link Integer#MAX_VALUE} if it never occurs
+     */
+    public int nextStart(int day, Season season) {
+        int next = Integer.MAX_VALUE;
+        for (int i = 0; i < calendar.seasonCount(); i++) {
+            if (calendar.season(i) == season && calendar.lengthInDays(i) > 0) {
+                next = Math.min(next, nextStart(day, i));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns how many days there are from a day until the next start of a season, e.g. "how many days until winter?".
+     *
+     * @param day absolute day
+     * @param season The season
+     * @return The number of days until the season next starts, at least 1, or {@link Integer#MAX_VALUE} if it never
+     * occurs
+     */
+    public int daysUntil(int day, Season season) {
+        int next = nextStart(day, season);
+        return next == Integer.MAX_VALUE ? Integer.MAX_VALUE : next - day;
+    }
+
+    /**
+     * Counts the season transitions in the range (fromDay, toDay].
+     *
+     * @param fromDay absolute day the range starts after
+     * @param toDay absolute day the range ends on
+     * @return The number of seasons that start within the range; negative if toDay lies before fromDay
+     */
+    public long countTransitions(int fromDay, int toDay) {
+        return calendar.seasonNumber(toDay) - calendar.seasonNumber(fromDay);
+    }
+
+    /**
+     * Lists every season transition in the range (fromDay, toDay], in order. The transitions are computed lazily while
+     * iterating, so even very long ranges cost nothing up front.
+     *
+     * @param fromDay absolute day the range starts after
+     * @param toDay absolute day the range ends on
+     * @return The transitions within the range
+     */
+    public Iterable<SeasonTransition> transitions(final int fromDay, final int toDay) {
+        return new Iterable<SeasonTransition>() {
+            @Override
+            public Iterator<SeasonTransition> iterator() {
+                return new TransitionIterator(fromDay, toDay);
+            }
+        };
+    }
+
+    private final class TransitionIterator implements Iterator<SeasonTransition> {
+        private final long toDay;
+        private long next;
+        private int season;
+
+        TransitionIterator(int fromDay, int toDay) {
+            this.toDay = toDay;
+            this.next = nextTransition(fromDay);
+            this.season = calendar.seasonIndexOnDay(fromDay);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next <= toDay;
+        }
+
+        @Override
+        public SeasonTransition next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int following = calendar.next(season);
+            SeasonTransition transition = new SeasonTransition(calendar, (int) next, season, following);
+            next += calendar.lengthInDays(following);
+            season = following;
+            return transition;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("Season transitions can't be removed");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+/**
+ * A change of season at the start of a day.
+ */
+public final class SeasonTransition {
+    private final SeasonCalendar calendar;
+    private final int day;
+    private final int fromIndex;
+    private final int toIndex;
+
+    SeasonTransition(SeasonCalendar calendar, int day, int fromIndex, int toIndex) {
+        this.calendar = calendar;
+        this.day = day;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    /**
+     * @return The absolute day on which the new season starts
+     */
+    public int day() {
+        return day;
+    }
+
+    /**
+     * @return The calendar index of the season that ends
+     */
+    public int fromIndex() {
+        return fromIndex;
+    }
+
+    /**
+     * @return The calendar index of the season that starts
+     */
+    public int toIndex() {
+        return toIndex;
+    }
+
+    /**
+     * @return The {@link Season} the ending season behaves as
+     */
+    public Season from() {
+        return calendar.season(fromIndex);
+    }
+
+    /**
+     * @return The {@link Season} the starting season behaves as
+     */
+    public Season to() {
+        return calendar.season(toIndex);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SeasonTransition)) {
+            return false;
+        }
+        SeasonTransition other = (SeasonTransition) o;
+        return day == other.day && fromIndex == other.fromIndex && toIndex == other.toIndex && calendar == other.calendar;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * day + fromIndex) + toIndex;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s -> %s on day %d", calendar.displayName(fromIndex), calendar.displayName(toIndex), day);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.curves;
+
+/**
+ * A keyframe curve compiled into cubic polynomial segments, wrapping around at the end of the year.
+ * <p>
+ * The coefficients of all segments are stored in one flat array and evaluated with Horner's rule. The segment of a
+ * point in the year is found through a table of evenly spaced buckets, each no wider than the shortest segment, so a
+ * lookup is one index computation and at most one step to the next segment; no search and no trigonometry.
+ */
+public final class CompiledSeasonCurve implements SeasonCurve {
+    private static final int MAX_BUCKETS = 4096;
+
+    private final float origin;
+    // Start of every segment relative to the first keyframe, followed by the end of the year at 1
+    private final float[] starts;
+    // Four coefficients per segment, lowest order first, in the offset from the start of the segment
+    private final float[] coefficients;
+    private final int[] buckets;
+
+    private CompiledSeasonCurve(float[] times, float[] values, float[] tangents) {
+        int n = times.length;
+        origin = times[0];
+        starts = new float[n + 1];
+        coefficients = new float[4 * n];
+        float shortest = 1;
+        for (int i = 0; i < n; i++) {
+            int next = (i + 1) % n;
+            starts[i] = times[i] - origin;
+            float length = (next > i ? times[next] : times[next] + 1) - times[i];
+            shortest = Math.min(shortest, length);
+            float slope = (values[next] - values[i]) / length;
+            coefficients[4 * i] = values[i];
+            coefficients[4 * i + 1] = tangents[i];
+            coefficients[4 * i + 2] = (3 * slope - 2 * tangents[i] - tangents[next]) / length;
+            coefficients[4 * i + 3] = (tangents[i] + tangents[next] - 2 * slope) / (length * length);
+        }
+        starts[n] = 1;
+
+        int count = (int) Math.min(MAX_BUCKETS, Math.max(n, Math.ceil(1 / shortest)));
+        buckets = new int[count];
+        int segment = 0;
+        for (int k = 0; k < count; k++) {
+            float bucketStart = k / (float) count;
+            while (segment + 1 < n && starts[segment + 1] <= bucketStart) {
+                segment++;
+            }
+            buckets[k] = segment;
+        }
+    }
+
+    /**
+     * Compiles keyframes with Catmull-Rom tangents, the same curve as a {@link KeyframeSeasonCurve}.
+     *
+     * @param times The keyframe times, strictly increasing within [0, 1)
+     * @param values The value of the curve at each keyframe
+     * @return The compiled curve
+     */
+    public static CompiledSeasonCurve compile(float[] times, float[] values) {
+        Keyframes.validate(times, values);
+        return new CompiledSeasonCurve(times, values, Keyframes.catmullRomTangents(times, values));
+    }
+
+    /**
+     * Compiles keyframes with given tangents into cubic Hermite segments.
+     *
+     * @param times The keyframe times, strictly increasing within [0, 1)
+     * @param values The value of the curve at each keyframe
+     * @param tangents The slope of the curve at each keyframe, in value per year
+     * @return The compiled curve
+     */
+    public static CompiledSeasonCurve compile(float[] times, float[] values, float[] tangents) {
+        Keyframes.validate(times, values);
+        if (tangents.length != times.length) {
+            throw new IllegalArgumentException("There must be a tangent for every keyframe");
+        }
+        return new CompiledSeasonCurve(times, values, tangents);
+    }
+
+    /**
+     * Returns the Catmull-Rom tangents of keyframes, e.g. to fill in the tangents a designer left out.
+     *
+     * @param times The keyframe times, strictly increasing within [0, 1)
+     * @param values The value of the curve at each keyframe
+     * @return The slope of the curve at each keyframe, in value per year
+     */
+    public static float[] tangents(float[] times, float[] values) {
+        Keyframes.validate(times, values);
+        return Keyframes.catmullRomTangents(times, values);
+    }
+
+    @Override
+    public float evaluate(float yearProgress) {
+        float t = Keyframes.wrap(yearProgress - origin);
+        int bucket = Math.min((int) (t * buckets.length), buckets.length - 1);
+        int segment = buckets[bucket];
+        // A single step unless segments are shorter than the finest bucket table allows
+        while (segment + 2 < starts.length && t >= starts[segment + 1]) {
+            segment++;
+        }
+        float u = t - starts[segment];
+        int c = 4 * segment;
+        return ((coefficients[c + 3] * u + coefficients[c + 2]) * u + coefficients[c + 1]) * u + coefficients[c];
+    }
+
+    /**
+     * @return The number of polynomial segments, one per keyframe
+     */
+    public int segmentCount() {
+        return starts.length - 1;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.curves;
+
+/**
+ * Smooth interpolation through keyframes, wrapping around at the end of the year.
+ * <p>
+ * Segments are cubic Hermite splines with Catmull-Rom tangents, so the curve passes through every keyframe and has no
+ * kinks, including at the turn of the year.
+ */
+public final class KeyframeSeasonCurve implements SeasonCurve {
+    private final float[] times;
+    private final float[] values;
+    private final float[] tangents;
+
+    /**
+     * @param times The keyframe times, strictly increasing within [0, 1)
+     * @param values The value of the curve at each keyframe
+     */
+    public KeyframeSeasonCurve(float[] times, float[] values) {
+        Keyframes.validate(times, values);
+        this.times = times.clone();
+        this.values = values.clone();
+        this.tangents = Keyframes.catmullRomTangents(times, values);
+    }
+
+    @Override
+    public float evaluate(float yearProgress) {
+        float t = Keyframes.wrap(yearProgress);
+        int start = Keyframes.segmentStart(times, t);
+        int end = (start + 1) % times.length;
+        float s = Keyframes.segmentPosition(times, start, t);
+
+        float length = (end > start ? times[end] : times[end] + 1) - times[start];
+        float s2 = s * s;
+        float s3 = s2 * s;
+        float h00 = 2 * s3 - 3 * s2 + 1;
+        float h10 = s3 - 2 * s2 + s;
+        float h01 = -2 * s3 + 3 * s2;
+        float h11 = s3 - s2;
+        return h00 * values[start] + h10 * length * tangents[start] + h01 * values[end] + h11 * length * tangents[end];
+    }
+
+    /**
+     * Compiles this curve into polynomial segments, which evaluate the same values without a search.
+     *
+     * @return The compiled curve
+     */
+    public CompiledSeasonCurve compile() {
+        return CompiledSeasonCurve.compile(times, values, tangents);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.curves;
+
+import java.util.Arrays;
+
+/**
+ * Validation and segment lookup shared by the keyframed curves.
+ * <p>
+ * Keyframe times are strictly increasing within [0, 1). The curve wraps around, so the segment after the last keyframe
+ * runs to the first keyframe of the next year.
+ */
+final class Keyframes {
+
+    private Keyframes() {
+        // Empty private constructor for utility class
+    }
+
+    static void validate(float[] times, float[] values) {
+        if (times.length == 0 || times.length != values.length) {
+            throw new IllegalArgumentException("Keyframe times and values must be non-empty and of equal length");
+        }
+        for (int i = 0; i < times.length; i++) {
+            if (times[i] < 0 || times[i] >= 1 || (i > 0 && times[i] <= times[i - 1])) {
+                throw new IllegalArgumentException("Keyframe times must be strictly increasing within [0, 1)");
+            }
+        }
+    }
+
+    /**
+     * Returns the Catmull-Rom tangent at every keyframe, wrapping around at the end of the year.
+     */
+    static float[] catmullRomTangents(float[] times, float[] values) {
+        int n = times.length;
+        float[] tangents = new float[n];
+        for (int i = 0; i < n; i++) {
+            int prev = (i + n - 1) % n;
+            int next = (i + 1) % n;
+            float prevTime = prev < i ? times[prev] : times[prev] - 1;
+            float nextTime = next > i ? times[next] : times[next] + 1;
+            float span = nextTime - prevTime;
+            tangents[i] = span > 0 ? (values[next] - values[prev]) / span : 0;
+        }
+        return tangents;
+    }
+
+    /**
+     * Returns the index of the keyframe at or before t, wrapping to the last keyframe before the first one.
+     */
+    static int segmentStart(float[] times, float t) {
+        int index = Arrays.binarySearch(times, t);
+        if (index >= 0) {
+            return index;
+        }
+        int insertion = -index - 1;
+        return insertion == 0 ? times.length - 1 : insertion - 1;
+    }
+
+    /**
+     * Returns the normalized position of t within the segment starting at the given keyframe.
+     */
+    static float segmentPosition(float[] times, int start, float t) {
+        int end = start + 1;
+        float startTime = times[start];
+        float endTime = end == times.length ? times[0] + 1 : times[end];
+        if (t < startTime) {
+            t += 1;
+        }
+        float length = endTime - startTime;
+        return length > 0 ? (t - startTime) / length : 0;
+    }
+
+    static float wrap(float t) {
+        return t - (float) Math.floor(t);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.curves;
+
+/**
+ * Linear interpolation between keyframes, wrapping around at the end of the year.
+ */
+public final class PiecewiseLinearSeasonCurve implements SeasonCurve {
+    private final float[] times;
+    private final float[] values;
+
+    /**
+     * @param times The keyframe times, strictly increasing within [0, 1)
+     * @param values The value of the curve at each keyframe
+     */
+    public PiecewiseLinearSeasonCurve(float[] times, float[] values) {
+        Keyframes.validate(times, values);
+        this.times = times.clone();
+        this.values = values.clone();
+    }
+
+    @Override
+    public float evaluate(float yearProgress) {
+        float t = Keyframes.wrap(yearProgress);
+        int start = Keyframes.segmentStart(times, t);
+        float s = Keyframes.segmentPosition(times, start, t);
+        float from = values[start];
+        float to = values[(start + 1) % values.length];
+        return from + (to - from) * s;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.curves;
+
+/**
+ * A seasonal adjustment as a function of the progress through the year.
+ * <p>
+ * Implementations are evaluated on the climate hot path and must not allocate.
+ */
+public interface SeasonCurve {
+
+    /**
+     * Returns the adjustment at a point in the year.
+     *
+     * @param yearProgress The progress through the year, in [0, 1)
+     * @return The value of the curve at that point
+     */
+    float evaluate(float yearProgress);
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.curves;
+
+/**
+ * A sine wave over the year: {@code amplitude * sin(2 * PI * (cyclesPerYear * t - phase))}.
+ */
+public final class SineSeasonCurve implements SeasonCurve {
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private final float amplitude;
+    private final float cyclesPerYear;
+    private final float phase;
+
+    /**
+     * @param amplitude The peak value of the wave
+     * @param cyclesPerYear How many full waves fit in one year
+     * @param phase How far the wave is shifted into the year, in years
+     */
+    public SineSeasonCurve(float amplitude, float cyclesPerYear, float phase) {
+        this.amplitude = amplitude;
+        this.cyclesPerYear = cyclesPerYear;
+        this.phase = phase;
+    }
+
+    @Override
+    public float evaluate(float yearProgress) {
+        return amplitude * (float) Math.sin(TWO_PI * (cyclesPerYear * yearProgress - phase));
+    }
+
+    public float amplitude() {
+        return amplitude;
+    }
+
+    public float cyclesPerYear() {
+        return cyclesPerYear;
+    }
+
+    public float phase() {
+        return phase;
+    }
+}
@@ -17,9 +17,20 @@ package org.terasology.seasons.events;
 
 import org.terasology.gestalt.entitysystem.event.Event;
 import org.terasology.seasons.Season;
+import org.terasology.seasons.SeasonDimension;
 
 /**
  * Event to trigger when the season changes.
+ * <p>
+ * {@link #from} and {@link #to} are the {@link Season}s the old and new season behave as; with a custom calendar they
+ * may be equal, e.g. when summer turns into a monsoon. {@link #fromIndex} and {@link #toIndex} identify the seasons in
+ * the calendar of the {@code SeasonSystem}.
+ * <p>
+ * After a time skip a single event may cover several season transitions; {@link #transitions} tells how many. It is
+ * negative when the world time was moved backwards.
+ * <p>
+ * {@link #dimension} is the id of the {@link SeasonDimension} whose season changed, so listeners that receive the
+ * events of every dimension can tell them apart.
  *
  * @author DizzyDragon.
  */
@@ -27,9 +38,36 @@ public class OnSeasonChangeEvent implements Event {
 
     public final Season from;
     public final Season to;
+    public final int fromIndex;
+    public final int toIndex;
+    public final long transitions;
+    public final int dimension;
 
     public OnSeasonChangeEvent(Season from, Season to) {
+        this(from, to, from.ordinal(), to.ordinal());
+    }
+
+    public OnSeasonChangeEvent(Season from, Season to, int fromIndex, int toIndex) {
+        this(from, to, fromIndex, toIndex, 1);
+    }
+
+    public OnSeasonChangeEvent(Season from, Season to, int fromIndex, int toIndex, long transitions) {
+        this(from, to, fromIndex, toIndex, transitions, SeasonDimension.PRIMARY);
+    }
+
+    public OnSeasonChangeEvent(Season from, Season to, int fromIndex, int toIndex, long transitions, int dimension) {
         this.from = from;
         this.to = to;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.transitions = transitions;
+        this.dimension = dimension;
+    }
+
+    /**
+     * @return Whether this event stands for more than a single season transition
+     */
+    public boolean isCoalesced() {
+        return transitions != 1;
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.events;
+
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.seasons.Season;
+import org.terasology.seasons.SeasonDimension;
+
+/**
+ * Event sent to the world entity at the start of every day, describing the season of the new day. {@link #dimension}
+ * is the id of the {@link SeasonDimension} the day started in.
+ */
+public class OnSeasonDayEvent implements Event {
+
+    public final int day;
+    public final Season season;
+    public final int seasonIndex;
+    public final int dayOfSeason;
+    public final int dimension;
+
+    public OnSeasonDayEvent(int day, Season season, int seasonIndex, int dayOfSeason) {
+        this(day, season, seasonIndex, dayOfSeason, SeasonDimension.PRIMARY);
+    }
+
+    public OnSeasonDayEvent(int day, Season season, int seasonIndex, int dayOfSeason, int dimension) {
+        this.day = day;
+        this.season = season;
+        this.seasonIndex = seasonIndex;
+        this.dayOfSeason = dayOfSeason;
+        this.dimension = dimension;
+    }
+}
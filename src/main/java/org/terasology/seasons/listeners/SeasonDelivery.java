@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.listeners;
+
+/**
+ * When a season listener receives its events.
+ */
+public enum SeasonDelivery {
+    /**
+     * Right when the event is sent, usually during midnight processing.
+     */
+    IMMEDIATE,
+    /**
+     * In the tick after the event was sent.
+     */
+    NEXT_TICK,
+    /**
+     * Spread over the following ticks, as many per tick as the registry's time budget allows.
+     */
+    BUDGETED
+}
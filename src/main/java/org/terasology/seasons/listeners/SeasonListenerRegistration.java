@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.listeners;
+
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.function.Consumer;
+
+/**
+ * A listener registered with a {@link SeasonListenerRegistry}, together with the time spent in it.
+ *
+ * @param <E> The type of event the listener receives
+ */
+public final class SeasonListenerRegistration<E extends Event> {
+    private final SeasonListenerRegistry registry;
+    private final String name;
+    private final Class<E> eventType;
+    private final SeasonDelivery delivery;
+    private final Consumer<? super E> listener;
+    private volatile boolean active = true;
+
+    private long invocations;
+    private long totalNanos;
+    private long maxNanos;
+
+    SeasonListenerRegistration(SeasonListenerRegistry registry, String name, Class<E> eventType, SeasonDelivery delivery,
+                               Consumer<? super E> listener) {
+        this.registry = registry;
+        this.name = name;
+        this.eventType = eventType;
+        this.delivery = delivery;
+        this.listener = listener;
+    }
+
+    /**
+     * @return Whether the listener receives events of that type
+     */
+    boolean accepts(Event event) {
+        return active && eventType.isInstance(event);
+    }
+
+    /**
+     * Calls the listener, unless it was unregistered in the meantime, and records how long it took.
+     */
+    void deliver(Event event) {
+        if (!active) {
+            return;
+        }
+        long start = registry.nanoTime();
+        try {
+            listener.accept(eventType.cast(event));
+        } finally {
+            long elapsed = registry.nanoTime() - start;
+            invocations++;
+            totalNanos += elapsed;
+            maxNanos = Math.max(maxNanos, elapsed);
+        }
+    }
+
+    /**
+     * Stops the delivery of events to the listener, including events that are still pending.
+     */
+    public void unregister() {
+        active = false;
+        registry.remove(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<E> getEventType() {
+        return eventType;
+    }
+
+    public SeasonDelivery getDelivery() {
+        return delivery;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * @return How often the listener was called
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * @return The total time spent in the listener, in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return The longest time a single call of the listener took, in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return The mean time of a call of the listener, in nanoseconds
+     */
+    public double getMeanNanos() {
+        return invocations == 0 ? 0 : totalNanos / (double) invocations;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s, %s): %d calls, mean %.1f us, max %.1f us", name, eventType.getSimpleName(), delivery,
+                invocations, getMeanNanos() / 1000, maxNanos / 1000.0);
+    }
+}
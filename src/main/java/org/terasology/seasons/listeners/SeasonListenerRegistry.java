@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.listeners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.gestalt.entitysystem.event.Event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Listeners for season events that choose when they are called: immediately, in the next tick or spread over several
+ * ticks within a time budget. This keeps expensive reactions to a season change from all landing in the midnight tick.
+ * <p>
+ * The time spent in every listener is recorded, see {@link #getRegistrations()}. The registry is meant to be used from
+ * the main thread only.
+ */
+public class SeasonListenerRegistry {
+    /**
+     * Default time per tick spent on {@link SeasonDelivery#BUDGETED budgeted} deliveries, in nanoseconds.
+     */
+    public static final long DEFAULT_BUDGET = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final Logger logger = LoggerFactory.getLogger(SeasonListenerRegistry.class);
+
+    private final LongSupplier nanoTime;
+    private final List<SeasonListenerRegistration<?>> registrations = new CopyOnWriteArrayList<>();
+    private final Deque<PendingDelivery> nextTick = new ArrayDeque<>();
+    private final Deque<PendingDelivery> budgeted = new ArrayDeque<>();
+    private long budget = DEFAULT_BUDGET;
+
+    public SeasonListenerRegistry() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime The clock listeners are timed with and the budget is measured with, in nanoseconds
+     */
+    SeasonListenerRegistry(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Registers a listener for season events.
+     *
+     * @param name The name the listener is reported under, e.g. the name of the system
+     * @param eventType The type of events to receive; subtypes are received as well
+     * @param delivery When the listener is called
+     * @param listener The listener
+     * @param <E> The type of events to receive
+     * @return The registration, to unregister the listener or inspect its timings
+     */
+    public <E extends Event> SeasonListenerRegistration<E> register(String name, Class<E> eventType, SeasonDelivery delivery,
+                                                                    Consumer<? super E> listener) {
+        if (name == null || eventType == null || delivery == null || listener == null) {
+            throw new IllegalArgumentException("Name, event type, delivery and listener must not be null");
+        }
+        SeasonListenerRegistration<E> registration = new SeasonListenerRegistration<>(this, name, eventType, delivery, listener);
+        registrations.add(registration);
+        return registration;
+    }
+
+    long nanoTime() {
+        return nanoTime.getAsLong();
+    }
+
+    void remove(SeasonListenerRegistration<?> registration) {
+        registrations.remove(registration);
+    }
+
+    /**
+     * @return All registered listeners with their timings
+     */
+    public List<SeasonListenerRegistration<?>> getRegistrations() {
+        return Collections.unmodifiableList(new ArrayList<>(registrations));
+    }
+
+    /**
+     * @return The time per tick spent on budgeted deliveries, in nanoseconds
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Sets the time per tick spent on budgeted deliveries. At least one pending budgeted delivery is made per tick
+     * regardless, so slow listeners still get their events.
+     *
+     * @param nanos The time budget in nanoseconds, must be > 0
+     */
+    public void setBudget(long nanos) {
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("Listener budget must be > 0");
+        }
+        budget = nanos;
+    }
+
+    /**
+     * @return The number of deliveries that haven't been made yet
+     */
+    public int pendingCount() {
+        return nextTick.size() + budgeted.size();
+    }
+
+    /**
+     * Calls the immediate listeners of an event and queues it for the others.
+     *
+     * @param event The season event
+     */
+    public void dispatch(Event event) {
+        for (SeasonListenerRegistration<?> registration : registrations) {
+            if (!registration.accepts(event)) {
+                continue;
+            }
+            switch (registration.getDelivery()) {
+                case IMMEDIATE:
+                    deliver(registration, event);
+                    break;
+                case NEXT_TICK:
+                    nextTick.addLast(new PendingDelivery(registration, event));
+                    break;
+                default:
+                    budgeted.addLast(new PendingDelivery(registration, event));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Makes the deliveries that are due this tick: all next-tick deliveries queued before this call, and budgeted
+     * deliveries until the time budget is spent.
+     *
+     * @return The number of deliveries made
+     */
+    public int deliverPending() {
+        int delivered = 0;
+        for (int i = nextTick.size(); i > 0; i--) {
+            PendingDelivery pending = nextTick.pollFirst();
+            deliver(pending.registration, pending.event);
+            delivered++;
+        }
+        long start = nanoTime.getAsLong();
+        while (!budgeted.isEmpty()) {
+            PendingDelivery pending = budgeted.pollFirst();
+            deliver(pending.registration, pending.event);
+            delivered++;
+            if (nanoTime.getAsLong() - start >= budget) {
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    /**
+     * Drops all pending deliveries and listeners.
+     */
+    public void clear() {
+        nextTick.clear();
+        budgeted.clear();
+        registrations.clear();
+    }
+
+    private static void deliver(SeasonListenerRegistration<?> registration, Event event) {
+        try {
+            registration.deliver(event);
+        } catch (RuntimeException e) {
+            logger.error("Season listener {} failed on {}", registration.getName(), event, e);
+        }
+    }
+
+    private static final class PendingDelivery {
+        private final SeasonListenerRegistration<?> registration;
+        private final Event event;
+
+        PendingDelivery(SeasonListenerRegistration<?> registration, Event event) {
+            this.registration = registration;
+            this.event = event;
+        }
+    }
+}
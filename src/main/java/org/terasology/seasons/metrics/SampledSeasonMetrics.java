@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Season metrics that count every invocation with striped counters and time a random sample of them.
+ * <p>
+ * Sampled latencies go into a histogram with power-of-two nanosecond buckets, so recording never allocates and
+ * concurrent threads rarely contend.
+ */
+public class SampledSeasonMetrics implements SeasonMetrics {
+    /**
+     * Default fraction of invocations that are timed: 1 in 2^6.
+     */
+    public static final int DEFAULT_SAMPLE_SHIFT = 6;
+
+    static final int BUCKETS = Long.SIZE;
+
+    private final int sampleMask;
+    private final LongAdder[] counts = new LongAdder[SeasonProbe.values().length];
+    private final LongAdder[] sampledNanos = new LongAdder[SeasonProbe.values().length];
+    private final AtomicLongArray histograms = new AtomicLongArray(SeasonProbe.values().length * BUCKETS);
+
+    public SampledSeasonMetrics() {
+        this(DEFAULT_SAMPLE_SHIFT);
+    }
+
+    /**
+     * @param sampleShift One in 2^sampleShift invocations is timed; 0 times every invocation
+     */
+    public SampledSeasonMetrics(int sampleShift) {
+        if (sampleShift < 0 || sampleShift > 30) {
+            throw new IllegalArgumentException("Sample shift must be within [0, 30]");
+        }
+        sampleMask = (1 << sampleShift) - 1;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+            sampledNanos[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public long begin(SeasonProbe probe) {
+        counts[probe.ordinal()].increment();
+        if ((ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    @Override
+    public void end(SeasonProbe probe, long start) {
+        if (start == NOT_SAMPLED) {
+            return;
+        }
+        long nanos = Math.max(0, System.nanoTime() - start);
+        sampledNanos[probe.ordinal()].add(nanos);
+        histograms.incrementAndGet(probe.ordinal() * BUCKETS + bucket(nanos));
+    }
+
+    @Override
+    public SeasonMetricsSnapshot snapshot() {
+        SeasonProbe[] probes = SeasonProbe.values();
+        SeasonMetricsSnapshot.ProbeSnapshot[] result = new SeasonMetricsSnapshot.ProbeSnapshot[probes.length];
+        for (SeasonProbe probe : probes) {
+            long[] histogram = new long[BUCKETS];
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                histogram[bucket] = histograms.get(probe.ordinal() * BUCKETS + bucket);
+            }
+            result[probe.ordinal()] = new SeasonMetricsSnapshot.ProbeSnapshot(probe,
+                    counts[probe.ordinal()].sum(), sampledNanos[probe.ordinal()].sum(), histogram);
+        }
+        return new SeasonMetricsSnapshot(result);
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i].reset();
+            sampledNanos[i].reset();
+        }
+        for (int i = 0; i < histograms.length(); i++) {
+            histograms.set(i, 0);
+        }
+    }
+
+    /**
+     * Bucket b holds latencies in [2^b, 2^(b+1)) nanoseconds; bucket 0 also holds 0.
+     */
+    static int bucket(long nanos) {
+        return nanos <= 1 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+    }
+}
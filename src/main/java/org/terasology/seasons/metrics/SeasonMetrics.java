@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.metrics;
+
+/**
+ * Counts invocations of the instrumented season code paths and samples their latency.
+ * <p>
+ * An instrumented path calls {@link #begin(SeasonProbe)} on entry and passes the result to
+ * {@link #end(SeasonProbe, long)} on exit. {@link #NO_OP} is used unless metrics are switched on; its methods are
+ * empty, so an instrumented path only pays for reading the metrics field and two interface calls the JIT can usually
+ * inline.
+ */
+public interface SeasonMetrics {
+
+    /**
+     * Returned by {@link #begin(SeasonProbe)} when the invocation isn't timed.
+     */
+    long NOT_SAMPLED = Long.MIN_VALUE;
+
+    /**
+     * Metrics that record nothing.
+     */
+    SeasonMetrics NO_OP = new SeasonMetrics() {
+        @Override
+        public long begin(SeasonProbe probe) {
+            return NOT_SAMPLED;
+        }
+
+        @Override
+        public void end(SeasonProbe probe, long start) {
+        }
+
+        @Override
+        public SeasonMetricsSnapshot snapshot() {
+            return SeasonMetricsSnapshot.EMPTY;
+        }
+
+        @Override
+        public void reset() {
+        }
+    };
+
+    /**
+     * Counts an invocation of a code path.
+     *
+     * @param probe The code path
+     * @return The start time in nanoseconds if the invocation is timed, else {@link #NOT_SAMPLED}
+     */
+    long begin(SeasonProbe probe);
+
+    /**
+     * Completes an invocation of a code path.
+     *
+     * @param probe The code path
+     * @param start The value returned by {@link #begin(SeasonProbe)}
+     */
+    void end(SeasonProbe probe, long start);
+
+    /**
+     * @return The metrics recorded so far
+     */
+    SeasonMetricsSnapshot snapshot();
+
+    /**
+     * Discards all metrics recorded so far.
+     */
+    void reset();
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.metrics;
+
+/**
+ * An immutable copy of the season metrics at one moment.
+ */
+public final class SeasonMetricsSnapshot {
+    /**
+     * A snapshot without any recorded invocations.
+     */
+    public static final SeasonMetricsSnapshot EMPTY = new SeasonMetricsSnapshot(emptyProbes());
+
+    private final ProbeSnapshot[] probes;
+
+    SeasonMetricsSnapshot(ProbeSnapshot[] probes) {
+        this.probes = probes;
+    }
+
+    private static ProbeSnapshot[] emptyProbes() {
+        SeasonProbe[] values = SeasonProbe.values();
+        ProbeSnapshot[] result = new ProbeSnapshot[values.length];
+        for (SeasonProbe probe : values) {
+            result[probe.ordinal()] = new ProbeSnapshot(probe, 0, 0, new long[SampledSeasonMetrics.BUCKETS]);
+        }
+        return result;
+    }
+
+    /**
+     * @param probe An instrumented code path
+     * @return The metrics of that code path
+     */
+    public ProbeSnapshot get(SeasonProbe probe) {
+        return probes[probe.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (ProbeSnapshot probe : probes) {
+            builder.append(probe).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The metrics of a single code path.
+     */
+    public static final class ProbeSnapshot {
+        private final SeasonProbe probe;
+        private final long invocations;
+        private final long sampledNanos;
+        private final long[] histogram;
+        private final long samples;
+
+        ProbeSnapshot(SeasonProbe probe, long invocations, long sampledNanos, long[] histogram) {
+            this.probe = probe;
+            this.invocations = invocations;
+            this.sampledNanos = sampledNanos;
+            this.histogram = histogram;
+            long total = 0;
+            for (long count : histogram) {
+                total += count;
+            }
+            this.samples = total;
+        }
+
+        public SeasonProbe probe() {
+            return probe;
+        }
+
+        /**
+         * @return How often the code path was invoked
+         */
+        public long invocations() {
+            return invocations;
+        }
+
+        /**
+         * @return How many of the invocations were timed
+         */
+        public long samples() {
+            return samples;
+        }
+
+        /**
+         * @return The mean latency of the timed invocations in nanoseconds, or 0 without samples
+         */
+        public double meanNanos() {
+            return samples == 0 ? 0 : sampledNanos / (double) samples;
+        }
+
+        /**
+         * Estimates a latency percentile from the histogram, as the upper bound of the bucket it falls in.
+         *
+         * @param percentile The percentile, in (0, 100]
+         * @return The estimated latency in nanoseconds, or 0 without samples
+         */
+        public long percentileNanos(double percentile) {
+            if (samples == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(samples * percentile / 100.0);
+            long seen = 0;
+            for (int bucket = 0; bucket < histogram.length; bucket++) {
+                seen += histogram[bucket];
+                if (seen >= rank) {
+                    return bucket >= Long.SIZE - 2 ? Long.MAX_VALUE : (2L << bucket) - 1;
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d calls, %d sampled, mean %.0f ns, p50 < %d ns, p99 < %d ns",
+                    probe, invocations, samples, meanNanos(), percentileNanos(50), percentileNanos(99));
+        }
+    }
+}
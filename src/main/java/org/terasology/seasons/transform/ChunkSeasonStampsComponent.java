@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.transform;
+
+import org.joml.Vector3ic;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The season versions of unloaded chunks, kept on the world entity by the {@link SeasonTransformSystem}.
+ * <p>
+ * It is saved with the world, so a chunk that was unloaded while up to date isn't transformed again when it is loaded
+ * later, and a chunk that fell behind catches up from the season it was last transformed for. Only unloaded chunks
+ * have an entry: a chunk's entry is taken out when it is loaded and put back when it is unloaded.
+ */
+public class ChunkSeasonStampsComponent implements Component<ChunkSeasonStampsComponent> {
+    /**
+     * The season version of every unloaded chunk that was transformed, by packed chunk position
+     */
+    public Map<Long, Long> stamps = new HashMap<>();
+
+    /**
+     * Removes the stored season version of a chunk, e.g. because it is loaded again.
+     *
+     * @param chunkPos The position of a chunk
+     * @return The stored season version of the chunk, or {@link SeasonTransformQueue#NEVER} if there was none
+     */
+    public long take(Vector3ic chunkPos) {
+        Long stamp = stamps.remove(SeasonTransformQueue.key(chunkPos));
+        return stamp != null ? stamp : SeasonTransformQueue.NEVER;
+    }
+
+    /**
+     * @param chunkPos The position of a chunk
+     * @param stamp The season version of the chunk; {@link SeasonTransformQueue#NEVER} forgets it
+     */
+    public void setStamp(Vector3ic chunkPos, long stamp) {
+        if (stamp == SeasonTransformQueue.NEVER) {
+            stamps.remove(SeasonTransformQueue.key(chunkPos));
+        } else {
+            stamps.put(SeasonTransformQueue.key(chunkPos), stamp);
+        }
+    }
+
+    @Override
+    public void copyFrom(ChunkSeasonStampsComponent other) {
+        stamps = new HashMap<>(other.stamps);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.transform;
+
+import org.joml.Vector3ic;
+import org.terasology.seasons.SeasonState;
+
+/**
+ * Reworks a chunk for the current season, e.g. by adding snow, dropping leaves or freezing water.
+ * <p>
+ * Transformers are registered with the {@link SeasonTransformSystem}, which calls them for a limited number of chunks
+ * per tick. A chunk may have missed several seasons, e.g. because it wasn't loaded; a transformer should bring it
+ * straight to the current season instead of replaying every season in between.
+ */
+@FunctionalInterface
+public interface ChunkTransformer {
+    /**
+     * Brings a chunk up to date with the current season.
+     *
+     * @param chunkPos The position of the chunk
+     * @param fromVersion The season version the chunk was last transformed for, or
+     *                    {@link SeasonTransformQueue#NEVER} if it is unknown
+     * @param state The current state of the seasons
+     */
+    void transform(Vector3ic chunkPos, long fromVersion, SeasonState state);
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.transform;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.seasons.SeasonState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks which loaded chunks are behind the current season and transforms them a few at a time, nearest first.
+ * <p>
+ * Every chunk carries a season version stamp: the version of the season it was last transformed for. Changing the
+ * {@link #setVersion(long) current version} doesn't touch any chunk; stale chunks are only picked up by
+ * {@link #process}, within its budget. Chunks loaded later are stale as well, unless they are loaded with a stamp that
+ * was persisted with them, and catch up the same way.
+ */
+public class SeasonTransformQueue {
+    /**
+     * The stamp of a chunk that was never transformed, or whose stamp is unknown.
+     */
+    public static final long NEVER = Long.MIN_VALUE;
+
+    private final LongSupplier nanoTime;
+    private final Map<Long, ChunkEntry> chunks = new HashMap<>();
+    private long version = NEVER;
+    private int staleCount;
+
+    // Reused by process, a max-heap on distance holding the nearest stale chunks found so far
+    private final PriorityQueue<ChunkEntry> nearest = new PriorityQueue<>(
+            (a, b) -> Long.compare(b.distance, a.distance));
+    private final List<ChunkEntry> batch = new ArrayList<>();
+
+    public SeasonTransformQueue() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime The clock the time budget of {@link #process} is measured with, in nanoseconds
+     */
+    SeasonTransformQueue(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return The season version chunks are brought up to
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the season version chunks are brought up to. All chunks with a different stamp become stale.
+     *
+     * @param newVersion The current season version
+     */
+    public void setVersion(long newVersion) {
+        if (newVersion == version) {
+            return;
+        }
+        version = newVersion;
+        staleCount = 0;
+        for (ChunkEntry entry : chunks.values()) {
+            if (entry.stamp != newVersion) {
+                staleCount++;
+            }
+        }
+    }
+
+    /**
+     * Starts tracking a chunk that was never transformed.
+     *
+     * @param chunkPos The position of the chunk
+     */
+    public void load(Vector3ic chunkPos) {
+        load(chunkPos, NEVER);
+    }
+
+    /**
+     * Starts tracking a chunk.
+     *
+     * @param chunkPos The position of the chunk
+     * @param stamp The season version the chunk was last transformed for, or {@link #NEVER}
+     */
+    public void load(Vector3ic chunkPos, long stamp) {
+        ChunkEntry entry = chunks.get(key(chunkPos));
+        if (entry == null) {
+            entry = new ChunkEntry(chunkPos, NEVER);
+            chunks.put(key(chunkPos), entry);
+            if (entry.stamp != version) {
+                staleCount++;
+            }
+        }
+        restamp(entry, stamp);
+    }
+
+    /**
+     * Stops tracking a chunk.
+     *
+     * @param chunkPos The position of the chunk
+     * @return The stamp of the chunk, to be persisted with it, or {@link #NEVER} if it wasn't tracked
+     */
+    public long unload(Vector3ic chunkPos) {
+        ChunkEntry entry = chunks.remove(key(chunkPos));
+        if (entry == null) {
+            return NEVER;
+        }
+        if (entry.stamp != version) {
+            staleCount--;
+        }
+        return entry.stamp;
+    }
+
+    /**
+     * @param chunkPos The position of the chunk
+     * @return The stamp of the chunk, or {@link #NEVER} if it isn't tracked or was never transformed
+     */
+    public long stampOf(Vector3ic chunkPos) {
+        ChunkEntry entry = chunks.get(key(chunkPos));
+        return entry != null ? entry.stamp : NEVER;
+    }
+
+    /**
+     * @return The number of tracked chunks
+     */
+    public int size() {
+        return chunks.size();
+    }
+
+    /**
+     * @return The number of tracked chunks that are behind the current version
+     */
+    public int staleCount() {
+        return staleCount;
+    }
+
+    /**
+     * Transforms the stale chunks nearest to the focus points, such as the players' chunks, until one of the budgets
+     * runs out. At least one stale chunk is transformed per call, so the queue always makes progress.
+     *
+     * @param transformers The transformers to apply to every chunk
+     * @param state The current state of the seasons
+     * @param focus The chunk coordinates of the focus points, as consecutive x, y, z triplets
+     * @param focusCount The number of focus points; without any, the chunks are transformed in no particular order
+     * @param chunkBudget The maximum number of chunks to transform
+     * @param timeBudget The time after which no further chunk is started, in nanoseconds
+     * @return The number of chunks transformed
+     */
+    public int process(List<ChunkTransformer> transformers, SeasonState state, int[] focus, int focusCount,
+                       int chunkBudget, long timeBudget) {
+        if (staleCount == 0 || chunkBudget <= 0) {
+            return 0;
+        }
+        long start = nanoTime.getAsLong();
+        selectNearest(focus, focusCount, chunkBudget);
+        int processed = 0;
+        for (ChunkEntry entry : batch) {
+            for (ChunkTransformer transformer : transformers) {
+                transformer.transform(entry.pos, entry.stamp, state);
+            }
+            restamp(entry, version);
+            processed++;
+            if (nanoTime.getAsLong() - start >= timeBudget) {
+                break;
+            }
+        }
+        batch.clear();
+        return processed;
+    }
+
+    /**
+     * Fills the batch with the stale chunks nearest to any focus point, nearest first.
+     */
+    private void selectNearest(int[] focus, int focusCount, int count) {
+        for (ChunkEntry entry : chunks.values()) {
+            if (entry.stamp == version) {
+                continue;
+            }
+            long distance = distance(entry.pos, focus, focusCount);
+            if (nearest.size() < count) {
+                entry.distance = distance;
+                nearest.add(entry);
+            } else if (distance < nearest.peek().distance) {
+                nearest.poll();
+                entry.distance = distance;
+                nearest.add(entry);
+            }
+        }
+        int size = nearest.size();
+        for (int i = 0; i < size; i++) {
+            batch.add(null);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            batch.set(i, nearest.poll());
+        }
+    }
+
+    private void restamp(ChunkEntry entry, long stamp) {
+        boolean wasStale = entry.stamp != version;
+        boolean isStale = stamp != version;
+        entry.stamp = stamp;
+        if (wasStale && !isStale) {
+            staleCount--;
+        } else if (!wasStale && isStale) {
+            staleCount++;
+        }
+    }
+
+    private static long distance(Vector3ic pos, int[] focus, int focusCount) {
+        long min = focusCount > 0 ? Long.MAX_VALUE : 0;
+        for (int i = 0; i < focusCount; i++) {
+            long dx = pos.x() - focus[3 * i];
+            long dy = pos.y() - focus[3 * i + 1];
+            long dz = pos.z() - focus[3 * i + 2];
+            min = Math.min(min, dx * dx + dy * dy + dz * dz);
+        }
+        return min;
+    }
+
+    /**
+     * Packs a chunk position into a long, 21 bits per axis.
+     */
+    static long key(Vector3ic pos) {
+        return ((long) pos.x() & 0x1FFFFF) << 42 | ((long) pos.y() & 0x1FFFFF) << 21 | ((long) pos.z() & 0x1FFFFF);
+    }
+
+    private static final class ChunkEntry {
+        private final Vector3i pos;
+        private long stamp;
+        private long distance;
+
+        ChunkEntry(Vector3ic pos, long stamp) {
+            this.pos = new Vector3i(pos.x(), pos.y(), pos.z());
+            this.stamp = stamp;
+        }
+    }
+}
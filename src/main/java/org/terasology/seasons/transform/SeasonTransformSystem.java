@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.transform;
+
+import org.joml.Vector3f;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.logic.players.PlayerCharacterComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
+import org.terasology.engine.world.chunks.event.OnChunkLoaded;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.seasons.SeasonState;
+import org.terasology.seasons.SeasonSystem;
+import org.terasology.seasons.metrics.SeasonMetrics;
+import org.terasology.seasons.metrics.SeasonProbe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spreads the rework of loaded chunks after a season change over many ticks.
+ * <p>
+ * Modules that add snow, drop leaves or freeze water register a {@link ChunkTransformer} instead of reworking every
+ * loaded chunk when the season changes. Each tick, the stale chunks nearest to the players are transformed until the
+ * chunk or time budget runs out. The season version of a chunk is the number of the season it was last transformed
+ * for, as counted by {@link org.terasology.seasons.SeasonCalendar#seasonNumber(int)}. When a chunk is unloaded, its
+ * version is stored in the {@link ChunkSeasonStampsComponent} of the world entity, and taken out again when the chunk
+ * is loaded. The component is saved at most once per tick, however many chunks were loaded or unloaded.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(value = SeasonTransformSystem.class)
+public class SeasonTransformSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    /**
+     * Default maximum number of chunks transformed per tick.
+     */
+    public static final int DEFAULT_CHUNK_BUDGET = 4;
+
+    /**
+     * Default time per tick after which no further chunk is transformed, in nanoseconds.
+     */
+    public static final long DEFAULT_TIME_BUDGET = TimeUnit.MILLISECONDS.toNanos(2);
+
+    @In
+    private SeasonSystem seasonSystem;
+
+    @In
+    private EntityManager entityManager;
+
+    private final SeasonTransformQueue queue = new SeasonTransformQueue();
+    private final List<ChunkTransformer> transformers = new ArrayList<>();
+    private int chunkBudget = DEFAULT_CHUNK_BUDGET;
+    private long timeBudget = DEFAULT_TIME_BUDGET;
+
+    // The world entity whose chunk stamps changed since they were last saved
+    private EntityRef unsavedStamps = EntityRef.NULL;
+
+    private final Vector3f position = new Vector3f();
+    private int[] focus = new int[3 * 4];
+
+    @Override
+    public void update(float delta) {
+        saveStamps();
+        SeasonState state = seasonSystem.getState();
+        queue.setVersion(state.calendar().seasonNumber(state.day()));
+        if (queue.staleCount() == 0 || transformers.isEmpty()) {
+            return;
+        }
+        SeasonMetrics m = seasonSystem.getMetrics();
+        long start = m.begin(SeasonProbe.CHUNK_TRANSFORM);
+        int focusCount = collectPlayerChunks();
+        queue.process(transformers, state, focus, focusCount, chunkBudget, timeBudget);
+        m.end(SeasonProbe.CHUNK_TRANSFORM, start);
+    }
+
+    @Override
+    public void shutdown() {
+        saveStamps();
+        transformers.clear();
+    }
+
+    @ReceiveEvent(components = WorldComponent.class)
+    public void onChunkLoaded(OnChunkLoaded event, EntityRef entity) {
+        ChunkSeasonStampsComponent stored = entity.getComponent(ChunkSeasonStampsComponent.class);
+        long stamp = SeasonTransformQueue.NEVER;
+        if (stored != null) {
+            stamp = stored.take(event.getChunkPos());
+            if (stamp != SeasonTransformQueue.NEVER) {
+                unsavedStamps = entity;
+            }
+        }
+        queue.load(event.getChunkPos(), stamp);
+    }
+
+    @ReceiveEvent(components = WorldComponent.class)
+    public void onChunkUnload(BeforeChunkUnload event, EntityRef entity) {
+        long stamp = queue.unload(event.getChunkPos());
+        if (stamp == SeasonTransformQueue.NEVER) {
+            return;
+        }
+        ChunkSeasonStampsComponent stored = entity.getComponent(ChunkSeasonStampsComponent.class);
+        if (stored == null) {
+            stored = new ChunkSeasonStampsComponent();
+            stored.setStamp(event.getChunkPos(), stamp);
+            entity.addComponent(stored);
+            return;
+        }
+        stored.setStamp(event.getChunkPos(), stamp);
+        unsavedStamps = entity;
+    }
+
+    /**
+     * Saves the chunk stamps changed since the last save, once for all chunks loaded or unloaded in the meantime.
+     */
+    private void saveStamps() {
+        EntityRef entity = unsavedStamps;
+        unsavedStamps = EntityRef.NULL;
+        if (!entity.exists()) {
+            return;
+        }
+        ChunkSeasonStampsComponent stored = entity.getComponent(ChunkSeasonStampsComponent.class);
+        if (stored != null) {
+            entity.saveComponent(stored);
+        }
+    }
+
+    /**
+     * Registers a transformer that is applied to every chunk that is behind the current season.
+     *
+     * @param transformer The chunk transformer
+     */
+    public void addTransformer(ChunkTransformer transformer) {
+        if (transformer == null) {
+            throw new IllegalArgumentException("Chunk transformer must not be null");
+        }
+        transformers.add(transformer);
+    }
+
+    /**
+     * @param transformer The chunk transformer to remove
+     */
+    public void removeTransformer(ChunkTransformer transformer) {
+        transformers.remove(transformer);
+    }
+
+    /**
+     * Returns the queue of chunks, e.g. to look up the season version of a chunk.
+     *
+     * @return The chunk queue
+     */
+    public SeasonTransformQueue getQueue() {
+        return queue;
+    }
+
+    /**
+     * @return The maximum number of chunks transformed per tick
+     */
+    public int getChunkBudget() {
+        return chunkBudget;
+    }
+
+    /**
+     * @param chunks The maximum number of chunks transformed per tick, must be >= 1
+     */
+    public void setChunkBudget(int chunks) {
+        if (chunks < 1) {
+            throw new IllegalArgumentException("Chunk budget must be >= 1");
+        }
+        chunkBudget = chunks;
+    }
+
+    /**
+     * @return The time per tick after which no further chunk is transformed, in nanoseconds
+     */
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Sets the time per tick after which no further chunk is transformed. At least one chunk is transformed per tick
+     * regardless, so a slow transformer can't stall the seasons.
+     *
+     * @param nanos The time budget in nanoseconds, must be > 0
+     */
+    public void setTimeBudget(long nanos) {
+        if (nanos <= 0) {
+            throw new IllegalArgumentException("Time budget must be > 0");
+        }
+        timeBudget = nanos;
+    }
+
+    /**
+     * Fills {@link #focus} with the chunk coordinates of all player characters.
+     *
+     * @return The number of players
+     */
+    private int collectPlayerChunks() {
+        int count = 0;
+        for (EntityRef character : entityManager.getEntitiesWith(PlayerCharacterComponent.class, LocationComponent.class)) {
+            LocationComponent location = character.getComponent(LocationComponent.class);
+            location.getWorldPosition(position);
+            if (!Float.isFinite(position.x) || !Float.isFinite(position.y) || !Float.isFinite(position.z)) {
+                continue;
+            }
+            if (3 * count + 3 > focus.length) {
+                focus = Arrays.copyOf(focus, 2 * focus.length);
+            }
+            focus[3 * count] = Math.floorDiv((int) Math.floor(position.x), Chunks.SIZE_X);
+            focus[3 * count + 1] = Math.floorDiv((int) Math.floor(position.y), Chunks.SIZE_Y);
+            focus[3 * count + 2] = Math.floorDiv((int) Math.floor(position.z), Chunks.SIZE_Z);
+            count++;
+        }
+        return count;
+    }
+}
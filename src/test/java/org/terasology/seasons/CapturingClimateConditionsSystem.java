@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.climateConditions.ClimateConditionsSystem;
+import org.terasology.climateConditions.ConditionModifier;
+
+/**
+ * Climate system that only records the modifiers registered with it, so they can be invoked directly.
+ */
+public class CapturingClimateConditionsSystem extends ClimateConditionsSystem {
+    private ConditionModifier temperatureModifier;
+    private ConditionModifier humidityModifier;
+
+    @Override
+    public void addTemperatureModifier(int order, ConditionModifier modifier) {
+        temperatureModifier = modifier;
+    }
+
+    @Override
+    public void addHumidityModifier(int order, ConditionModifier modifier) {
+        humidityModifier = modifier;
+    }
+
+    public ConditionModifier getTemperatureModifier() {
+        return temperatureModifier;
+    }
+
+    public ConditionModifier getHumidityModifier() {
+        return humidityModifier;
+    }
+}
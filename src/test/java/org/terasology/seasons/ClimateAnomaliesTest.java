@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.world.time.WorldTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of ClimateAnomalies.
+ */
+public class ClimateAnomaliesTest {
+    @Test
+    public void anomaliesOnlyDependOnSeedAndYear() {
+        ClimateAnomalies first = ClimateAnomalies.withDefaults(ClimateAnomalies.seedOf("Terasology"));
+        ClimateAnomalies second = ClimateAnomalies.withDefaults(ClimateAnomalies.seedOf("Terasology"));
+        // Visit more years than the cache holds, so some anomalies are computed again
+        for (long year = -40; year < 40; year++) {
+            first.forYear(year);
+        }
+        for (long year = -40; year < 40; year++) {
+            ClimateAnomaly a = first.forYear(year);
+            ClimateAnomaly b = second.forYear(year);
+            assertEquals(a.temperatureScale(), b.temperatureScale(), 0);
+            assertEquals(a.temperatureBias(), b.temperatureBias(), 0);
+            assertEquals(a.humidityScale(), b.humidityScale(), 0);
+            assertEquals(a.humidityBias(), b.humidityBias(), 0);
+        }
+        assertNotEquals(first.forYear(0).temperatureBias(), first.forYear(1).temperatureBias());
+        assertNotEquals(first.seed(), ClimateAnomalies.seedOf("Other"));
+    }
+
+    @Test
+    public void anomaliesStayWithinTheirVariation() {
+        ClimateAnomalies anomalies = new ClimateAnomalies(7, 0.1f, 3f, 0.5f, 0.02f);
+        for (long year = 0; year < 1000; year++) {
+            ClimateAnomaly anomaly = anomalies.forYear(year);
+            assertTrue(Math.abs(anomaly.temperatureScale() - 1) <= 0.1f);
+            assertTrue(Math.abs(anomaly.temperatureBias()) <= 3f);
+            assertTrue(Math.abs(anomaly.humidityScale() - 1) <= 0.5f);
+            assertTrue(Math.abs(anomaly.humidityBias()) <= 0.02f);
+        }
+    }
+
+    @Test
+    public void noAnomaliesLeaveTheClimateUnchanged() {
+        assertSame(ClimateAnomaly.NONE, ClimateAnomalies.NONE.forYear(12));
+        assertEquals(4.5f, ClimateAnomaly.NONE.temperature(4.5f), 0);
+        assertEquals(0.25f, ClimateAnomaly.NONE.humidity(0.25f), 0);
+    }
+
+    @Test
+    public void anomaliesBlendAcrossNewYear() {
+        ClimateAnomalies anomalies = ClimateAnomalies.withDefaults(ClimateAnomalies.seedOf("Terasology"));
+        SeasonCalendar calendar = SeasonCalendar.DEFAULT;
+        long newYear = SeasonTime.startOfDay(calendar.yearLength());
+
+        ClimateAnomaly atNewYear = anomalies.at(newYear, calendar, 2);
+        float evenBlend = (anomalies.forYear(0).temperatureBias() + anomalies.forYear(1).temperatureBias()) / 2;
+        assertEquals(evenBlend, atNewYear.temperatureBias(), 1e-5f);
+        assertEquals(atNewYear.temperatureBias(), anomalies.at(newYear - 1, calendar, 2).temperatureBias(), 1e-5f);
+
+        // Outside the window the anomaly of the year itself is used
+        long midYear = newYear + SeasonTime.yearLength(calendar) / 2;
+        assertSame(anomalies.forYear(1), anomalies.at(midYear, calendar, 2));
+        assertSame(anomalies.forYear(1), anomalies.at(newYear + WorldTime.DAY_LENGTH, calendar, 2));
+        assertSame(anomalies.forYear(1), anomalies.at(newYear, calendar, 0));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.world.time.WorldTime;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DaylightTableTest {
+    private static final float EPSILON = 1e-5f;
+
+    @Test
+    public void longestDayIsInMidsummer() {
+        DaylightTable table = DaylightModel.DEFAULT.compile(SeasonCalendar.DEFAULT);
+        int year = SeasonCalendar.DEFAULT.yearLength();
+        int longest = 0;
+        int shortest = 0;
+        for (int day = 0; day < year; day++) {
+            if (table.daylightFraction(day) > table.daylightFraction(longest)) {
+                longest = day;
+            }
+            if (table.daylightFraction(day) < table.daylightFraction(shortest)) {
+                shortest = day;
+            }
+        }
+        assertEquals(Season.SUMMER, SeasonCalendar.DEFAULT.onDay(longest));
+        assertEquals(Season.WINTER, SeasonCalendar.DEFAULT.onDay(shortest));
+        assertEquals(0.65f, table.daylightFraction(longest), 0.01f);
+        assertEquals(0.35f, table.daylightFraction(shortest), 0.01f);
+    }
+
+    @Test
+    public void sunriseAndSunsetAreCentredOnMidday() {
+        DaylightTable table = new DaylightModel(0.2f, 0.8f, 0.5f).compile(SeasonCalendar.DEFAULT);
+        for (int day = -200; day < 200; day += 7) {
+            assertEquals(0.5f, (table.sunrise(day) + table.sunset(day)) / 2, EPSILON);
+            assertEquals(table.daylightFraction(day), table.sunset(day) - table.sunrise(day), EPSILON);
+            assertEquals(table.daylightFraction(day), table.daylightFraction(day + table.yearLength()), EPSILON);
+        }
+    }
+
+    @Test
+    public void isDaylightFollowsSunriseAndSunset() {
+        DaylightTable table = DaylightModel.DEFAULT.compile(SeasonCalendar.DEFAULT);
+        int day = 40;
+        long start = SeasonTime.startOfDay(day);
+        assertTrue(table.isDaylight(start + WorldTime.DAY_LENGTH / 2));
+        assertFalse(table.isDaylight(start));
+        assertFalse(table.isDaylight(start + table.sunriseMillis(day) - 1));
+        assertTrue(table.isDaylight(start + table.sunriseMillis(day)));
+        assertTrue(table.isDaylight(start + table.sunsetMillis(day) - 1));
+        assertFalse(table.isDaylight(start + table.sunsetMillis(day)));
+        assertEquals(table.sunrise(day), table.sunriseMillis(day) / (float) WorldTime.DAY_LENGTH, EPSILON);
+
+        // Stays exact in a world that has been running for a million years
+        long farStart = SeasonTime.startOfDay(day + 1_000_000 * table.yearLength());
+        assertFalse(table.isDaylight(farStart + table.sunriseMillis(day) - 1));
+        assertTrue(table.isDaylight(farStart + table.sunriseMillis(day)));
+    }
+
+    @Test
+    public void dimensionsLookUpDaylightAtTheirOwnTime() {
+        SeasonSystem seasonSystem = new SeasonSystem();
+        // Half a day ahead, so it is midday there at the world's midnight
+        SeasonDimension shifted = seasonSystem.registerDimension("shifted", EntityRef.NULL, SeasonCalendar.DEFAULT,
+                WorldTime.DAY_LENGTH / 2, 1);
+        long midnight = SeasonTime.startOfDay(40);
+        assertFalse(seasonSystem.getPrimaryDimension().isDaylight(midnight));
+        assertTrue(shifted.isDaylight(midnight));
+        assertFalse(shifted.isDaylight(midnight + WorldTime.DAY_LENGTH / 2));
+    }
+
+    @Test
+    public void seasonSystemRecomputesTheTableWithTheCalendar() {
+        SeasonSystem seasonSystem = new SeasonSystem();
+        DaylightTable table = seasonSystem.getDaylight();
+        assertEquals(SeasonCalendar.DEFAULT.yearLength(), table.yearLength());
+        assertSame(table, seasonSystem.getDaylight());
+
+        seasonSystem.setCalendar(SeasonCalendar.compile(Collections.singletonList(
+                new SeasonDefinition("always", 10, Season.SUMMER))));
+        assertEquals(10, seasonSystem.getDaylight().yearLength());
+
+        seasonSystem.setDaylightModel(new DaylightModel(0.5f, 0.5f, 0));
+        assertEquals(0.5f, seasonSystem.getDaylight().daylightFraction(3), EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> new DaylightModel(0.6f, 0.4f, 0));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SeasonBlendTest {
+    private static final SeasonCalendar CALENDAR = SeasonCalendar.DEFAULT;
+    private static final int SUMMER = Season.SUMMER.ordinal();
+
+    @Test
+    public void blendIsEvenAtTheTransition() {
+        SeasonBlend blend = SeasonBlend.compute(CALENDAR, SUMMER, 0, 2);
+        assertSame(Season.SPRING, blend.adjacent());
+        assertEquals(0.5f, blend.currentWeight(), 1e-6f);
+        assertEquals(0.5f, blend.weightOf(Season.SPRING), 1e-6f);
+    }
+
+    @Test
+    public void adjacentSeasonFadesWithinTheWindow() {
+        SeasonBlend early = SeasonBlend.compute(CALENDAR, SUMMER, 0.5, 2);
+        assertSame(Season.SPRING, early.adjacent());
+        assertEquals(0.25f, early.adjacentWeight(), 1e-6f);
+
+        SeasonBlend late = SeasonBlend.compute(CALENDAR, SUMMER, Season.SUMMER.lengthInDays() - 0.5, 2);
+        assertSame(Season.FALL, late.adjacent());
+        assertEquals(0.25f, late.adjacentWeight(), 1e-6f);
+        assertEquals(0.75f, late.weightOf(Season.SUMMER), 1e-6f);
+    }
+
+    @Test
+    public void noBlendOutsideTheWindow() {
+        SeasonBlend blend = SeasonBlend.compute(CALENDAR, SUMMER, 3, 2);
+        assertFalse(blend.isTransitioning());
+        assertEquals(1f, blend.weightOf(Season.SUMMER), 1e-6f);
+
+        assertFalse(SeasonBlend.compute(CALENDAR, SUMMER, 0, 0).isTransitioning());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test of SeasonCalendar
+ */
+public class SeasonCalendarTest {
+    private static final SeasonCalendar MONSOON_CALENDAR = SeasonCalendar.compile(Arrays.asList(
+            new SeasonDefinition("spring", 10, Season.SPRING),
+            new SeasonDefinition("summer", 20, Season.SUMMER),
+            new SeasonDefinition("monsoon", 7, Season.SUMMER),
+            new SeasonDefinition("fall", 12, Season.FALL),
+            new SeasonDefinition("winter", 30, Season.WINTER)));
+
+    @Test
+    public void defaultCalendarMatchesSeasonEnum() {
+        SeasonCalendar calendar = SeasonCalendar.DEFAULT;
+        assertEquals(Season.YEAR_LENGTH_IN_DAYS, calendar.yearLength());
+        assertEquals(Season.values().length, calendar.seasonCount());
+
+        for (int day = -3 * Season.YEAR_LENGTH_IN_DAYS; day < 3 * Season.YEAR_LENGTH_IN_DAYS; day++) {
+            assertSame(Season.onDay(day), calendar.onDay(day), "day " + day);
+            assertEquals(Season.packedOnDay(day), calendar.packedOnDay(day), "day " + day);
+            assertEquals(Season.dayOfSeason(day), calendar.dayOfSeason(day), "day " + day);
+        }
+    }
+
+    @Test
+    public void unequalSeasonsAreLaidOutInOrder() {
+        assertEquals(79, MONSOON_CALENDAR.yearLength());
+        assertEquals(30, MONSOON_CALENDAR.firstDay(2));
+        assertEquals(36, MONSOON_CALENDAR.lastDay(2));
+
+        assertEquals(1, MONSOON_CALENDAR.seasonIndexOnDay(29));
+        assertEquals(2, MONSOON_CALENDAR.seasonIndexOnDay(30));
+        assertEquals(6, MONSOON_CALENDAR.dayOfSeason(36));
+        assertSame(Season.SUMMER, MONSOON_CALENDAR.onDay(36));
+        assertEquals(4, MONSOON_CALENDAR.seasonIndexOnDay(-1));
+        assertEquals(0, MONSOON_CALENDAR.next(4));
+        assertEquals(4, MONSOON_CALENDAR.previous(0));
+    }
+
+    @Test
+    public void seasonNumbersCountTransitionsAcrossYears() {
+        SeasonCalendar calendar = SeasonCalendar.compile(Arrays.asList(
+                new SeasonDefinition("spring", 3, Season.SPRING),
+                new SeasonDefinition("never", 0, Season.SPRING),
+                new SeasonDefinition("summer", 2, Season.SUMMER)));
+
+        assertEquals(2, calendar.occurrencesPerYear());
+        assertEquals(2, calendar.next(0));
+        assertEquals(0, calendar.next(2));
+        assertEquals(2, calendar.previous(0));
+        assertEquals(0, calendar.seasonNumber(0));
+        assertEquals(1, calendar.seasonNumber(3));
+        assertEquals(2, calendar.seasonNumber(5));
+        assertEquals(-1, calendar.seasonNumber(-1));
+        assertEquals(200, calendar.seasonNumber(100 * 5) - calendar.seasonNumber(0));
+
+        for (int day = -20; day < 20; day++) {
+            long expected = calendar.seasonIndexOnDay(day) == calendar.seasonIndexOnDay(day + 1) ? 0 : 1;
+            assertEquals(expected, calendar.seasonNumber(day + 1) - calendar.seasonNumber(day), "day " + day);
+        }
+    }
+
+    @Test
+    public void definitionsRoundTrip() {
+        SeasonCalendar copy = SeasonCalendar.compile(MONSOON_CALENDAR.toDefinitions());
+        assertEquals(MONSOON_CALENDAR.seasonCount(), copy.seasonCount());
+        for (int i = 0; i < copy.seasonCount(); i++) {
+            assertEquals(MONSOON_CALENDAR.displayName(i), copy.displayName(i));
+            assertEquals(MONSOON_CALENDAR.lengthInDays(i), copy.lengthInDays(i));
+            assertEquals(MONSOON_CALENDAR.season(i), copy.season(i));
+        }
+    }
+
+    @Test
+    public void emptyCalendarsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SeasonCalendar.compile(Collections.<SeasonDefinition>emptyList()));
+        assertThrows(IllegalArgumentException.class,
+                () -> SeasonCalendar.compile(Collections.singletonList(new SeasonDefinition("void", 0, Season.WINTER))));
+    }
+}
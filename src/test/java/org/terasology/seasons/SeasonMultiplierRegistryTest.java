@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SeasonMultiplierRegistryTest {
+    private static final float EPSILON = 1e-5f;
+    private static final float[] GROWTH = {1.5f, 1f, 0.5f, 0f};
+
+    @Test
+    public void discreteMultiplierFollowsTheSeasonOfTheDay() {
+        SeasonMultiplierRegistry registry = new SeasonMultiplierRegistry(SeasonCalendar.DEFAULT, 4);
+        SeasonMultiplier growth = registry.register("growth", GROWTH, false);
+        int year = SeasonCalendar.DEFAULT.yearLength();
+        for (int day = -year; day < 2 * year; day++) {
+            assertEquals(growth.valueOf(SeasonCalendar.DEFAULT.onDay(day)), growth.onDay(day), EPSILON, "day " + day);
+            registry.resolve(day + 0.7);
+            assertEquals(growth.onDay(day), growth.get(), EPSILON);
+        }
+    }
+
+    @Test
+    public void blendedMultiplierFadesAcrossTheTransition() {
+        SeasonMultiplierRegistry registry = new SeasonMultiplierRegistry(SeasonCalendar.DEFAULT, 4);
+        SeasonMultiplier growth = registry.register("growth", GROWTH, true);
+        int summerStart = SeasonCalendar.DEFAULT.firstDay(Season.SUMMER.ordinal());
+
+        assertEquals(1.5f, growth.onDay(summerStart - 3), EPSILON);
+        assertEquals(1.25f, growth.onDay(summerStart), EPSILON);
+        assertEquals(1f, growth.onDay(summerStart + 2), EPSILON);
+        registry.resolve(summerStart - 1.5);
+        assertEquals((growth.onDay(summerStart - 1) + growth.onDay(summerStart - 2)) / 2, growth.get(), EPSILON);
+    }
+
+    @Test
+    public void blendedMultiplierAgreesWithTheSeasonBlend() {
+        // A one day window: the value only changes within half a day of the transition
+        SeasonMultiplierRegistry registry = new SeasonMultiplierRegistry(SeasonCalendar.DEFAULT, 1);
+        SeasonMultiplier growth = registry.register("growth", GROWTH, true);
+        int summerStart = SeasonCalendar.DEFAULT.firstDay(Season.SUMMER.ordinal());
+        for (double days = summerStart - 2; days < summerStart + 2; days += 0.125) {
+            registry.resolve(days);
+            SeasonBlend blend = SeasonBlend.at(SeasonCalendar.DEFAULT, days, 1);
+            float expected = blend.currentWeight() * growth.valueOf(blend.current())
+                    + blend.adjacentWeight() * growth.valueOf(blend.adjacent());
+            assertEquals(expected, growth.get(), EPSILON, "day " + days);
+        }
+        registry.resolve(summerStart - 1);
+        assertEquals(1.5f, growth.get(), EPSILON);
+        registry.resolve(summerStart + 0.75);
+        assertEquals(1f, growth.get(), EPSILON);
+    }
+
+    @Test
+    public void tablesAreRecompiledForANewCalendar() {
+        SeasonMultiplierRegistry registry = new SeasonMultiplierRegistry(SeasonCalendar.DEFAULT, 0);
+        SeasonMultiplier growth = registry.register("growth", GROWTH, false);
+        assertSame(growth, registry.register("growth", GROWTH.clone(), false));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("growth", new float[]{0, 0, 0, 0}, false));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("growth", GROWTH, true));
+        assertSame(growth, registry.get("growth"));
+
+        registry.resolve(3);
+        registry.compile(SeasonCalendar.compile(Collections.singletonList(
+                new SeasonDefinition("winter", 5, Season.WINTER))), 0);
+        assertEquals(0f, growth.get(), EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> registry.register("short", new float[]{1, 2}, false));
+    }
+}
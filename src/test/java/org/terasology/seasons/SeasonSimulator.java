@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.world.sun.OnMidnightEvent;
+import org.terasology.engine.world.time.WorldTime;
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.seasons.events.OnSeasonChangeEvent;
+import org.terasology.seasons.events.OnSeasonDayEvent;
+
+/**
+ * Runs a {@link SeasonSystem} outside of the engine, fast-forwarding a {@link StubWorldTime} day by day and recording
+ * the climate and all season events into a {@link SeasonTimeSeries}.
+ * <p>
+ * Every simulated day the seasonal offsets are sampled {@link #setSamplesPerDay(int) a number of times}, then midnight
+ * is reached and the system reacts to the start of the next calendar day as it does in game.
+ */
+public class SeasonSimulator {
+    private final StubWorldTime worldTime = new StubWorldTime();
+    private final SeasonSystem seasonSystem = new SeasonSystem();
+    private final SeasonTimeSeries series = new SeasonTimeSeries();
+    private int samplesPerDay = 1;
+    private float z;
+
+    public SeasonSimulator() {
+        seasonSystem.bind(worldTime, new CapturingClimateConditionsSystem());
+        seasonSystem.preBegin();
+        seasonSystem.observeEvents(this::record);
+    }
+
+    /**
+     * @return The simulated season system, to be configured before running
+     */
+    public SeasonSystem getSeasonSystem() {
+        return seasonSystem;
+    }
+
+    /**
+     * @return The recorded samples and events
+     */
+    public SeasonTimeSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * @param samples How many times the climate is sampled per day, evenly spread, must be >= 0
+     * @return This simulator
+     */
+    public SeasonSimulator setSamplesPerDay(int samples) {
+        if (samples < 0) {
+            throw new IllegalArgumentException("Samples per day must be >= 0");
+        }
+        samplesPerDay = samples;
+        return this;
+    }
+
+    /**
+     * @param sampleZ The z coordinate, and so the latitude, the climate is sampled at
+     * @return This simulator
+     */
+    public SeasonSimulator setLatitude(float sampleZ) {
+        z = sampleZ;
+        return this;
+    }
+
+    /**
+     * Moves the world time to the start of a day without simulating the days in between, like a time skip.
+     *
+     * @param day The absolute day
+     * @return This simulator
+     */
+    public SeasonSimulator skipTo(int day) {
+        worldTime.setMilliseconds(SeasonTime.startOfDay(day));
+        midnight();
+        return this;
+    }
+
+    /**
+     * Simulates a number of days, continuing from the current calendar day.
+     *
+     * @param days The number of days to simulate
+     * @return The time series, holding the records of this and all previous runs
+     */
+    public SeasonTimeSeries run(int days) {
+        long dayStart = SeasonTime.startOfDay(SeasonTime.dayOf(worldTime.getMilliseconds()));
+        for (int i = 0; i < days; i++) {
+            for (int sample = 0; sample < samplesPerDay; sample++) {
+                long time = dayStart + sample * WorldTime.DAY_LENGTH / samplesPerDay;
+                worldTime.setMilliseconds(time);
+                seasonSystem.update(0);
+                series.addSample(time, seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE, z),
+                        seasonSystem.getSeasonalOffset(ClimateChannel.HUMIDITY, z), seasonSystem.getState().seasonIndex());
+            }
+            dayStart += WorldTime.DAY_LENGTH;
+            worldTime.setMilliseconds(dayStart);
+            midnight();
+        }
+        return series;
+    }
+
+    private void midnight() {
+        seasonSystem.update(0);
+        seasonSystem.onMidnight(new OnMidnightEvent(worldTime.getMilliseconds()), EntityRef.NULL);
+    }
+
+    private void record(Event event) {
+        long time = worldTime.getMilliseconds();
+        if (event instanceof OnSeasonChangeEvent) {
+            OnSeasonChangeEvent change = (OnSeasonChangeEvent) event;
+            series.addEvent(time, SeasonTimeSeries.SEASON_CHANGE, change.fromIndex, change.toIndex, change.transitions);
+        } else if (event instanceof OnSeasonDayEvent) {
+            OnSeasonDayEvent day = (OnSeasonDayEvent) event;
+            series.addEvent(time, SeasonTimeSeries.SEASON_DAY, day.seasonIndex, day.dayOfSeason, day.day);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Regression checks of whole simulated years, run through the SeasonSimulator.
+ */
+public class SeasonSimulatorTest {
+    private static final int YEARS = 1000;
+
+    @Test
+    public void everyDayAndTransitionIsReportedOnce() {
+        SeasonSimulator simulator = new SeasonSimulator();
+        SeasonCalendar calendar = simulator.getSeasonSystem().getCalendar();
+        SeasonTimeSeries series = simulator.run(YEARS * calendar.yearLength());
+
+        assertEquals(YEARS * calendar.yearLength(), series.eventCount(SeasonTimeSeries.SEASON_DAY));
+        assertEquals(YEARS * calendar.occurrencesPerYear(), series.eventCount(SeasonTimeSeries.SEASON_CHANGE));
+        long expectedDay = 1;
+        for (int i = 0; i < series.eventCount(); i++) {
+            if (series.eventKind(i) == SeasonTimeSeries.SEASON_DAY) {
+                assertEquals(expectedDay++, series.eventThird(i));
+                assertEquals(calendar.seasonIndexOnDay((int) series.eventThird(i)), series.eventFirst(i));
+            } else {
+                assertEquals(calendar.next(series.eventFirst(i)), series.eventSecond(i));
+                assertEquals(1, series.eventThird(i));
+            }
+        }
+    }
+
+    @Test
+    public void climateRepeatsEveryYearWithoutAnomalies() {
+        SeasonSimulator simulator = new SeasonSimulator().setSamplesPerDay(4);
+        int yearLength = simulator.getSeasonSystem().getCalendar().yearLength();
+        SeasonTimeSeries series = simulator.run(3 * yearLength);
+
+        int samplesPerYear = 4 * yearLength;
+        for (int i = 0; i < samplesPerYear; i++) {
+            assertEquals(series.temperature(i), series.temperature(i + samplesPerYear), 1e-4f);
+            assertEquals(series.humidity(i), series.humidity(i + 2 * samplesPerYear), 1e-4f);
+        }
+    }
+
+    @Test
+    public void seededSimulationsAreReproducible() {
+        SeasonSimulator first = new SeasonSimulator().setSamplesPerDay(2);
+        SeasonSimulator second = new SeasonSimulator().setSamplesPerDay(2);
+        first.getSeasonSystem().setClimateAnomalies(ClimateAnomalies.withDefaults(1234));
+        second.getSeasonSystem().setClimateAnomalies(ClimateAnomalies.withDefaults(1234));
+
+        assertArrayEquals(first.run(10_000).temperatures(), second.run(10_000).temperatures());
+    }
+
+    @Test
+    public void timeSkipIsReportedAsOneCoalescedEvent() {
+        SeasonSimulator simulator = new SeasonSimulator();
+        int yearLength = simulator.getSeasonSystem().getCalendar().yearLength();
+        SeasonTimeSeries series = simulator.skipTo(10 * yearLength).getSeries();
+
+        assertEquals(2, series.eventCount());
+        assertEquals(SeasonTimeSeries.SEASON_CHANGE, series.eventKind(0));
+        assertEquals(10 * simulator.getSeasonSystem().getCalendar().occurrencesPerYear(), series.eventThird(0));
+        assertTrue(series.eventKind(1) == SeasonTimeSeries.SEASON_DAY);
+    }
+}
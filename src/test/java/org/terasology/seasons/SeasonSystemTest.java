@@ -0,0 +1,489 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.climateConditions.ConditionModifier;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.world.sun.OnMidnightEvent;
+import org.terasology.engine.world.time.WorldTime;
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.seasons.curves.KeyframeSeasonCurve;
+import org.terasology.seasons.curves.SineSeasonCurve;
+import org.terasology.seasons.events.OnSeasonChangeEvent;
+import org.terasology.seasons.events.OnSeasonDayEvent;
+import org.terasology.seasons.listeners.SeasonDelivery;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of SeasonSystem, driven by stub world time and climate systems.
+ */
+public class SeasonSystemTest {
+    private static final int QUERIES = 200_000;
+    // Allowance for the bookkeeping of the allocation counter itself
+    private static final long ALLOCATION_TOLERANCE = 1024;
+
+    private StubWorldTime worldTime;
+    private CapturingClimateConditionsSystem climate;
+    private SeasonSystem seasonSystem;
+
+    @BeforeEach
+    public void setup() {
+        worldTime = new StubWorldTime();
+        worldTime.setDays(37.3f);
+        climate = new CapturingClimateConditionsSystem();
+        seasonSystem = new SeasonSystem();
+        seasonSystem.bind(worldTime, climate);
+        seasonSystem.preBegin();
+    }
+
+    @Test
+    public void snapshotAndLiveQueriesAgree() {
+        float snapshot = climate.getTemperatureModifier().getCondition(20, 0, 0, 0);
+        seasonSystem.setClimateSnapshotEnabled(false);
+        float live = climate.getTemperatureModifier().getCondition(20, 0, 0, 0);
+        assertEquals(live, snapshot, 1e-5f);
+    }
+
+    @Test
+    public void anomaliesAreAppliedToSnapshotAndLiveQueries() {
+        float average = seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE);
+        ClimateAnomalies anomalies = ClimateAnomalies.withDefaults(42);
+        seasonSystem.setClimateAnomalies(anomalies);
+        ClimateAnomaly anomaly = anomalies.forYear(seasonSystem.getState().year());
+        assertSame(anomaly, seasonSystem.getState().anomaly());
+
+        float snapshot = seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE);
+        assertEquals(anomaly.temperature(average), snapshot, 1e-5f);
+        seasonSystem.setClimateSnapshotEnabled(false);
+        assertEquals(snapshot, seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE), 1e-5f);
+    }
+
+    @Test
+    public void persistedStateReportsMissedTransitions() {
+        seasonSystem.setClimateAnomalies(ClimateAnomalies.withDefaults(99));
+        worldTime.setDays(5);
+        seasonSystem.onMidnight(new OnMidnightEvent(worldTime.getMilliseconds()), EntityRef.NULL);
+        SeasonComponent component = new SeasonComponent();
+        seasonSystem.writeState(component);
+        assertEquals(5, component.lastProcessedDay);
+        assertEquals(99, component.anomalySeed);
+
+        // Restart after the world time moved across two season starts
+        worldTime.setDays(13);
+        SeasonSystem restarted = new SeasonSystem();
+        restarted.bind(worldTime, climate);
+        List<Event> events = new ArrayList<>();
+        restarted.observeEvents(events::add);
+        restarted.restoreState(component);
+
+        assertEquals(99, restarted.getClimateAnomalies().seed());
+        assertEquals(2, events.size());
+        assertEquals(2, ((OnSeasonChangeEvent) events.get(0)).transitions);
+        assertEquals(13, ((OnSeasonDayEvent) events.get(1)).day);
+    }
+
+    @Test
+    public void climateAnomaliesAreOptIn() {
+        assertSame(ClimateAnomalies.NONE, new SeasonSystem().getClimateAnomalies());
+
+        // A world saved before anomalies existed keeps its climate
+        SeasonSystem restarted = new SeasonSystem();
+        restarted.bind(worldTime, climate);
+        restarted.restoreState(new SeasonComponent());
+        assertTrue(ClimateAnomalies.NONE.sameAs(restarted.getClimateAnomalies()));
+        assertSame(ClimateAnomaly.NONE, restarted.getState().anomaly());
+    }
+
+    @Test
+    public void climateAnomaliesSurviveARestart() {
+        ClimateAnomalies custom = new ClimateAnomalies(7, 0.1f, 3f, 0.5f, 0.02f);
+        for (ClimateAnomalies anomalies : List.of(ClimateAnomalies.NONE, custom)) {
+            seasonSystem.setClimateAnomalies(anomalies);
+            SeasonComponent component = new SeasonComponent();
+            seasonSystem.writeState(component);
+
+            SeasonSystem restarted = new SeasonSystem();
+            restarted.bind(worldTime, climate);
+            restarted.setClimateAnomalies(ClimateAnomalies.withDefaults(99));
+            restarted.restoreState(component);
+            ClimateAnomalies restored = restarted.getClimateAnomalies();
+            assertTrue(anomalies.sameAs(restored));
+            assertEquals(anomalies.varies(), restored.varies());
+            assertEquals(anomalies.temperatureBiasVariation(), restored.temperatureBiasVariation(), 0);
+            assertEquals(anomalies.humidityScaleVariation(), restored.humidityScaleVariation(), 0);
+            assertEquals(anomalies.forYear(3).temperatureBias(), restored.forYear(3).temperatureBias(), 0);
+        }
+    }
+
+    @Test
+    public void dimensionsFollowTheirOwnCalendars() {
+        SeasonCalendar calendar = seasonSystem.getCalendar();
+        long halfYear = SeasonTime.yearLength(calendar) / 2;
+        SeasonDimension nether = seasonSystem.registerDimension("nether", EntityRef.NULL, calendar, halfYear, 0.5f);
+        seasonSystem.setDimensionLocator((x, y, z) -> x >= 1000 ? nether.getId() : SeasonDimension.PRIMARY);
+
+        SeasonState primaryState = seasonSystem.getState();
+        SeasonState netherState = nether.getState();
+        assertEquals(primaryState.day() + calendar.yearLength() / 2, netherState.day());
+        assertEquals((primaryState.seasonIndex() + 2) % calendar.seasonCount(), netherState.seasonIndex());
+
+        ConditionModifier temperature = climate.getTemperatureModifier();
+        float netherOffset = seasonSystem.getSeasonalOffset(nether, ClimateChannel.TEMPERATURE, 0);
+        assertEquals(seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE), temperature.getCondition(0, 0, 0, 0), 1e-5f);
+        assertEquals(netherOffset, temperature.getCondition(0, 1000, 0, 0), 1e-5f);
+        assertEquals(netherOffset, seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE, 1000, 0, 0), 1e-5f);
+        seasonSystem.setClimateSnapshotEnabled(false);
+        assertEquals(netherOffset, temperature.getCondition(0, 1000, 0, 0), 1e-5f);
+
+        seasonSystem.unregisterDimension(nether);
+        assertEquals(seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE), temperature.getCondition(0, 1000, 0, 0), 1e-5f);
+        assertEquals(1, seasonSystem.getDimensions().size());
+    }
+
+    @Test
+    public void climateCurveKeyframesAreSwappedIn() {
+        ClimateCurveComponent curves = new ClimateCurveComponent();
+        curves.temperature.add(new SeasonCurveKeyframe(0, 4, null));
+        seasonSystem.setCurves(curves);
+        assertEquals(4, seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE), 1e-5f);
+        assertEquals(4, climate.getTemperatureModifier().getCondition(0, 0, 0, 0), 1e-5f);
+
+        // Invalid keyframes leave the curves in place
+        curves.temperature.add(new SeasonCurveKeyframe(2, 0, null));
+        seasonSystem.setCurves(curves);
+        assertEquals(4, seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE), 1e-5f);
+    }
+
+    @Test
+    public void movingBackwardsReportsNegativeTransitions() {
+        seasonSystem.setMaxTransitionEvents(4);
+        List<Event> events = new ArrayList<>();
+        seasonSystem.observeEvents(events::add);
+        SeasonComponent stored = new SeasonComponent();
+        stored.lastProcessedDay = 20;
+        stored.lastSeasonIndex = Season.WINTER.ordinal();
+
+        worldTime.setDays(5);
+        seasonSystem.restoreState(stored);
+
+        assertEquals(2, events.size());
+        OnSeasonChangeEvent change = (OnSeasonChangeEvent) events.get(0);
+        assertEquals(-3, change.transitions);
+        assertTrue(change.isCoalesced());
+        assertSame(Season.WINTER, change.from);
+        assertSame(Season.SPRING, change.to);
+    }
+
+    @Test
+    public void eventsAreHeldBackUntilThereIsAWorldEntity() {
+        // Without engine injection there is no world entity; the observer stands in for it once it is set
+        int days = SeasonSystem.MAX_PENDING_EVENTS + 10;
+        int firstDay = seasonSystem.getState().day() + 1;
+        for (int day = firstDay; day < firstDay + days; day++) {
+            worldTime.setMilliseconds(SeasonTime.startOfDay(day));
+            seasonSystem.onMidnight(new OnMidnightEvent(worldTime.getMilliseconds()), EntityRef.NULL);
+        }
+
+        List<Event> events = new ArrayList<>();
+        seasonSystem.observeEvents(events::add);
+        seasonSystem.update(0.016f);
+
+        // The oldest events were dropped, the newest ones arrive in order
+        assertEquals(SeasonSystem.MAX_PENDING_EVENTS, events.size());
+        OnSeasonDayEvent last = (OnSeasonDayEvent) events.get(events.size() - 1);
+        assertEquals(firstDay + days - 1, last.day);
+        int previousDay = Integer.MIN_VALUE;
+        for (Event event : events) {
+            if (event instanceof OnSeasonDayEvent) {
+                assertTrue(((OnSeasonDayEvent) event).day > previousDay);
+                previousDay = ((OnSeasonDayEvent) event).day;
+            }
+        }
+
+        // Once delivered, nothing is sent again
+        seasonSystem.update(0.016f);
+        assertEquals(SeasonSystem.MAX_PENDING_EVENTS, events.size());
+        worldTime.setMilliseconds(SeasonTime.startOfDay(firstDay + days));
+        seasonSystem.onMidnight(new OnMidnightEvent(worldTime.getMilliseconds()), EntityRef.NULL);
+        assertEquals(firstDay + days, ((OnSeasonDayEvent) events.get(events.size() - 1)).day);
+    }
+
+    @Test
+    public void bulkAdjustmentMatchesPerBlockModifiers() {
+        float[] temperatures = new float[32 * 32];
+        float[] humidities = new float[32 * 32];
+        for (int i = 0; i < temperatures.length; i++) {
+            temperatures[i] = i * 0.1f - 20;
+            humidities[i] = i / (float) humidities.length;
+        }
+        float[] expectedTemperatures = temperatures.clone();
+        float[] expectedHumidities = humidities.clone();
+        for (int i = 0; i < temperatures.length; i++) {
+            expectedTemperatures[i] = climate.getTemperatureModifier().getCondition(expectedTemperatures[i], i, 0, 0);
+            expectedHumidities[i] = climate.getHumidityModifier().getCondition(expectedHumidities[i], i, 0, 0);
+        }
+
+        seasonSystem.applySeasonalAdjustment(ClimateChannel.TEMPERATURE, temperatures);
+        seasonSystem.applySeasonalAdjustment(ClimateChannel.HUMIDITY, humidities);
+
+        assertArrayEquals(expectedTemperatures, temperatures, 1e-5f);
+        assertArrayEquals(expectedHumidities, humidities, 1e-5f);
+    }
+
+    @Test
+    public void bulkAdjustmentFollowsTheDimension() {
+        SeasonCalendar calendar = seasonSystem.getCalendar();
+        SeasonDimension nether = seasonSystem.registerDimension("nether", EntityRef.NULL, calendar,
+                SeasonTime.yearLength(calendar) / 2, 0.5f);
+        seasonSystem.setDimensionLocator((x, y, z) -> x >= 1000 ? nether.getId() : SeasonDimension.PRIMARY);
+        float[] temperatures = new float[16];
+        float[] humidities = new float[16];
+        for (int i = 0; i < temperatures.length; i++) {
+            temperatures[i] = i - 8;
+            humidities[i] = i / (float) humidities.length;
+        }
+        float[] expectedTemperatures = temperatures.clone();
+        float[] expectedHumidities = humidities.clone();
+        for (int i = 0; i < temperatures.length; i++) {
+            float x = 1000 + i;
+            expectedTemperatures[i] = climate.getTemperatureModifier().getCondition(expectedTemperatures[i], x, 0, 0);
+            expectedHumidities[i] = climate.getHumidityModifier().getCondition(expectedHumidities[i], x, 0, 0);
+        }
+
+        seasonSystem.applySeasonalAdjustment(nether, ClimateChannel.TEMPERATURE, temperatures);
+        seasonSystem.applySeasonalAdjustment(nether, ClimateChannel.HUMIDITY, humidities, 0, humidities.length, 0);
+
+        assertArrayEquals(expectedTemperatures, temperatures, 1e-5f);
+        assertArrayEquals(expectedHumidities, humidities, 1e-5f);
+        assertNotEquals(seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE),
+                seasonSystem.getSeasonalOffset(nether, ClimateChannel.TEMPERATURE, 0), 1e-5f);
+    }
+
+    @Test
+    public void bulkAdjustmentRejectsRangesBeyondTheArray() {
+        float[] values = new float[16];
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> seasonSystem.applySeasonalAdjustment(ClimateChannel.TEMPERATURE, values, 8, Integer.MAX_VALUE));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> seasonSystem.applySeasonalAdjustment(ClimateChannel.TEMPERATURE, values, -1, 4));
+    }
+
+    @Test
+    public void hemispheresHaveOppositeSeasons() {
+        seasonSystem.setLatitudeModel(new LatitudeModel(0, 100, new float[]{0.5f, 1f}, true));
+        ConditionModifier temperature = climate.getTemperatureModifier();
+        float uniform = seasonSystem.getSeasonalOffset(ClimateChannel.TEMPERATURE);
+
+        assertEquals(0.5f * uniform, temperature.getCondition(0, 0, 0, -50), 1e-5f);
+        assertEquals(uniform, temperature.getCondition(0, 0, 0, -5000), 1e-5f);
+        // half a year later, the yearly temperature wave is exactly inverted
+        assertEquals(-uniform, temperature.getCondition(0, 0, 0, 150), 1e-4f);
+
+        seasonSystem.setClimateSnapshotEnabled(false);
+        assertEquals(-uniform, temperature.getCondition(0, 0, 0, 150), 1e-4f);
+    }
+
+    @Test
+    public void concurrentReadersSeeConsistentStatesThroughShutdown() throws Exception {
+        // What every published state must contain, computed from the times the writer sets rather than from a state
+        int steps = 10_000;
+        long start = worldTime.getMilliseconds();
+        long step = SeasonSystem.DEFAULT_SNAPSHOT_QUANTUM * 97;
+        SineSeasonCurve temperatureCurve = new SineSeasonCurve(7.5f, 1, 0.125f);
+        int[] days = new int[steps + 1];
+        Season[] seasons = new Season[steps + 1];
+        float[] temperatures = new float[steps + 1];
+        for (int i = 0; i <= steps; i++) {
+            long ticks = start + i * step;
+            days[i] = SeasonTime.dayOf(ticks);
+            seasons[i] = Season.onDay(days[i]);
+            temperatures[i] = temperatureCurve.evaluate(SeasonTime.yearProgress(ticks, SeasonCalendar.DEFAULT));
+        }
+
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(readers.submit(() -> {
+                while (running.get()) {
+                    SeasonState state = seasonSystem.getState();
+                    long elapsed = state.ticks() - start;
+                    assertEquals(0, elapsed % step, "published a time the writer never set");
+                    int index = (int) (elapsed / step);
+                    assertEquals(days[index], state.day());
+                    assertSame(seasons[index], state.season());
+                    assertEquals(temperatures[index], state.temperatureOffset(), 1e-5f);
+                    climate.getTemperatureModifier().getCondition(20, 0, 0, 0);
+                    climate.getHumidityModifier().getCondition(0.5f, 0, 0, 0);
+                }
+            }));
+        }
+
+        for (int i = 1; i <= steps; i++) {
+            worldTime.setMilliseconds(start + i * step);
+            seasonSystem.update(0.016f);
+        }
+        seasonSystem.shutdown();
+        seasonSystem.setClimateSnapshotEnabled(false);
+        Thread.sleep(20);
+        running.set(false);
+
+        for (Future<?> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        readers.shutdown();
+    }
+
+    @Test
+    public void climateHotPathDoesNotAllocate() {
+        seasonSystem.setCurve(ClimateChannel.HUMIDITY, new KeyframeSeasonCurve(new float[]{0, 0.5f}, new float[]{-0.1f, 0.2f}));
+
+        seasonSystem.setClimateSnapshotEnabled(true);
+        assertNoAllocation(climate.getTemperatureModifier(), "temperature (snapshot)");
+        assertNoAllocation(climate.getHumidityModifier(), "humidity (snapshot)");
+
+        seasonSystem.setClimateSnapshotEnabled(false);
+        assertNoAllocation(climate.getTemperatureModifier(), "temperature (live)");
+        assertNoAllocation(climate.getHumidityModifier(), "humidity (live)");
+
+        seasonSystem.setLatitudeModel(LatitudeModel.linear(0, 64, 8, 0.2f));
+        assertNoAllocation(climate.getTemperatureModifier(), "temperature (latitude, live)");
+        seasonSystem.setClimateSnapshotEnabled(true);
+        assertNoAllocation(climate.getTemperatureModifier(), "temperature (latitude, snapshot)");
+    }
+
+    @Test
+    public void dayDescriptionsArePreRendered() {
+        String description = seasonSystem.getSeasonDayDescription();
+        assertSame(description, seasonSystem.getSeasonDayDescription());
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int length = describe(seasonSystem);
+        long before = threads.getThreadAllocatedBytes(threadId);
+        length += describe(seasonSystem);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < ALLOCATION_TOLERANCE, "descriptions allocated " + allocated + " bytes (" + length + ")");
+
+        seasonSystem.setCalendar(SeasonCalendar.compile(Collections.singletonList(new SeasonDefinition("monsoon", 100, Season.SUMMER))));
+        assertTrue(seasonSystem.getSeasonDayDescription().endsWith("day of monsoon"));
+    }
+
+    @Test
+    public void dayDescriptionsSurviveShutdown() {
+        SeasonDimension other = seasonSystem.registerDimension("other", EntityRef.NULL, SeasonCalendar.DEFAULT, 0, 1);
+        String description = seasonSystem.getSeasonDayDescription();
+        String otherDescription = seasonSystem.getSeasonDayDescription(other);
+        seasonSystem.shutdown();
+        assertEquals(description, seasonSystem.getSeasonDayDescription());
+        assertEquals(otherDescription, seasonSystem.getSeasonDayDescription(other));
+    }
+
+    @Test
+    public void dimensionsKeepTheirOwnDayDescriptions() {
+        SeasonDimension other = seasonSystem.registerDimension("other", EntityRef.NULL,
+                SeasonCalendar.compile(Collections.singletonList(new SeasonDefinition("dry", 50, Season.SUMMER))), 0, 1);
+        String primaryDescription = seasonSystem.getSeasonDayDescription();
+        String otherDescription = seasonSystem.getSeasonDayDescription(other);
+        assertTrue(otherDescription.endsWith("day of dry"));
+
+        // Alternating between calendars doesn't render the descriptions again
+        assertSame(primaryDescription, seasonSystem.getSeasonDayDescription());
+        assertSame(otherDescription, seasonSystem.getSeasonDayDescription(other));
+        assertSame(primaryDescription, seasonSystem.getSeasonDayDescription());
+    }
+
+    @Test
+    public void dimensionsStartTheirDaysAtTheirOwnMidnight() {
+        worldTime.setMilliseconds(SeasonTime.startOfDay(47) + WorldTime.DAY_LENGTH / 4);
+        seasonSystem.bind(worldTime, climate);
+        // Half a day ahead, so its days start at the world's midday
+        SeasonDimension shifted = seasonSystem.registerDimension("shifted", EntityRef.NULL, SeasonCalendar.DEFAULT,
+                WorldTime.DAY_LENGTH / 2, 1);
+        List<Event> events = new ArrayList<>();
+        seasonSystem.observeEvents(events::add);
+        List<OnSeasonChangeEvent> changes = new ArrayList<>();
+        seasonSystem.getListeners().register("changes", OnSeasonChangeEvent.class, SeasonDelivery.IMMEDIATE, changes::add);
+
+        // The shifted dimension reaches day 48, the first of a year, half a day before the world does
+        worldTime.setMilliseconds(SeasonTime.startOfDay(48) - WorldTime.DAY_LENGTH / 2);
+        seasonSystem.update(0);
+        seasonSystem.update(0);
+        assertEquals(2, events.size());
+        OnSeasonChangeEvent change = (OnSeasonChangeEvent) events.get(0);
+        assertEquals(shifted.getId(), change.dimension);
+        assertEquals(Season.SPRING, change.to);
+        assertEquals(List.of(change), changes);
+        OnSeasonDayEvent shiftedDay = (OnSeasonDayEvent) events.get(1);
+        assertEquals(48, shiftedDay.day);
+        assertEquals(shifted.getId(), shiftedDay.dimension);
+
+        // The engine's midnight only starts the day of the primary dimension
+        worldTime.setMilliseconds(SeasonTime.startOfDay(48));
+        seasonSystem.onMidnight(new OnMidnightEvent(worldTime.getMilliseconds()), EntityRef.NULL);
+        seasonSystem.update(0);
+        assertEquals(4, events.size());
+        assertEquals(SeasonDimension.PRIMARY, ((OnSeasonChangeEvent) events.get(2)).dimension);
+        assertEquals(SeasonDimension.PRIMARY, ((OnSeasonDayEvent) events.get(3)).dimension);
+        assertEquals(2, changes.size());
+    }
+
+    private static int describe(SeasonSystem system) {
+        int length = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            length += system.getSeasonDayDescription().length();
+        }
+        return length;
+    }
+
+    private static void assertNoAllocation(ConditionModifier modifier, String message) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        float sink = query(modifier);
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += query(modifier);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < ALLOCATION_TOLERANCE, message + " allocated " + allocated + " bytes (" + sink + ")");
+    }
+
+    private static float query(ConditionModifier modifier) {
+        float sum = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            sum += modifier.getCondition(0.5f, i, 64, -i);
+        }
+        return sum;
+    }
+}
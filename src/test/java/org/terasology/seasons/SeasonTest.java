@@ -19,11 +19,7 @@ package org.terasology.seasons;
 import org.junit.jupiter.api.Test;
 import org.terasology.specificationLanguage.SpecificationLanguage;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -34,6 +30,7 @@ import static org.terasology.specificationLanguage.SpecificationLanguage.assumin
 import static org.terasology.specificationLanguage.SpecificationLanguage.assumingForAll;
 import static org.terasology.specificationLanguage.SpecificationLanguage.test;
 import static org.terasology.specificationLanguage.SpecificationLanguage.testForAll;
+import static org.terasology.specificationLanguage.SpecificationLanguage.testForAllInParallel;
 
 /**
  * Test of Season
@@ -92,9 +89,9 @@ public class SeasonTest {
             assertTrue(season.lastDay() >= 0, String.format("Last day of %s is positive number", season.toString()));
         }
     };
-    private static final SpecificationLanguage.TwoInstanceRule DAY_OF_CYCLE_IS_INDEPENDENT_OF_YEAR = new SpecificationLanguage.TwoInstanceRule<Integer, Integer>() {
+    private static final SpecificationLanguage.TwoIntRule DAY_OF_CYCLE_IS_INDEPENDENT_OF_YEAR = new SpecificationLanguage.TwoIntRule() {
         @Override
-        public void test(Integer day, Integer year) {
+        public void test(int day, int year, Random random) {
             int absoluteDay = day + year * Season.YEAR_LENGTH_IN_DAYS;
             int expected = ((absoluteDay % Season.YEAR_LENGTH_IN_DAYS) + Season.YEAR_LENGTH_IN_DAYS) % Season.YEAR_LENGTH_IN_DAYS;
             double absoluteDayD = absoluteDay + random.nextDouble();
@@ -104,42 +101,44 @@ public class SeasonTest {
     };
 
     // test cases ////////////////////////////////////////////////////////////
-    private static final SpecificationLanguage.TwoInstanceRule DAY_TO_SEASON_IS_CONSISTENT = new SpecificationLanguage.TwoInstanceRule<Season, Integer>() {
+    private static final SpecificationLanguage.TwoIntRule DAY_TO_SEASON_IS_CONSISTENT = new SpecificationLanguage.TwoIntRule() {
         @Override
-        public void test(final Season season, final Integer year) {
-            final int firstDayOfYear = year * (Season.YEAR_LENGTH_IN_DAYS);
+        public void test(int dayOfSeason, int year, Random random) {
+            Season season = seasonContaining(dayOfSeason);
+            int absoluteDayI = year * Season.YEAR_LENGTH_IN_DAYS + dayOfSeason;
+            double offset = random.nextDouble();
 
-            testForAll(daysIn(season), new SpecificationLanguage.InstanceRule<Integer>() {
-                @Override
-                public void test(Integer dayOfSeason) {
-                    int absoluteDayI = firstDayOfYear + dayOfSeason;
-                    double offset = random.nextDouble();
+            String message = String.format("%s on day %d (+%f) of year %d (abs. %d)", season.toString(), dayOfSeason, offset, year, absoluteDayI);
 
-                    String message = String.format("%s on day %d (+%f) of year %d (abs. %d)", season.toString(), dayOfSeason, offset, year, absoluteDayI);
-
-                    assertSame(season, Season.onDay(absoluteDayI), message + " (int)");
-                    assertSame(season, Season.onDay(absoluteDayI + offset),message + " (double)");
-                }
-            });
+            assertSame(season, Season.onDay(absoluteDayI), message + " (int)");
+            assertSame(season, Season.onDay(absoluteDayI + offset),message + " (double)");
+        }
+    };
+    private static final SpecificationLanguage.TwoIntRule DAY_OF_SEASON_IS_CONSISTENT = new SpecificationLanguage.TwoIntRule() {
+        @Override
+        public void test(int dayOfYear, int year, Random random) {
+            Season season = seasonContaining(dayOfYear);
+            int absoluteDayInt = dayOfYear + year * Season.YEAR_LENGTH_IN_DAYS;
+            int dayOfSeason = dayOfYear - season.firstDay();
+            double absoluteDayDouble = absoluteDayInt + random.nextDouble(); // 0 <= random.nextDouble() < 1.0
+
+            String message = String.format("day %d of %s (year %d)", dayOfYear, season, year);
+            assertEquals(dayOfSeason, Season.dayOfSeason(absoluteDayInt), message);
+            assertEquals(dayOfSeason, Season.dayOfSeason(absoluteDayDouble), message);
         }
     };
-    private static final SpecificationLanguage.TwoInstanceRule DAY_OF_SEASON_IS_CONSISTENT = new SpecificationLanguage.TwoInstanceRule<Season, Integer>() {
+    private static final SpecificationLanguage.TwoIntRule PACKED_LOOKUP_IS_CONSISTENT = new SpecificationLanguage.TwoIntRule() {
         @Override
-        public void test(final Season season, final Integer year) {
-            final int firstDayOfYear = year * Season.YEAR_LENGTH_IN_DAYS;
-
-            testForAll(daysIn(season), new SpecificationLanguage.InstanceRule<Integer>() {
-                @Override
-                public void test(Integer dayOfYear) {
-                    int absoluteDayInt = dayOfYear + firstDayOfYear;
-                    int dayOfSeason = dayOfYear - season.firstDay();
-                    double absoluteDayDouble = absoluteDayInt + random.nextDouble(); // 0 <= random.nextDouble() < 1.0
-
-                    String message = String.format("day %d of %s (year %d)", dayOfYear, season, year);
-                    assertEquals(dayOfSeason, Season.dayOfSeason(absoluteDayInt), message);
-                    assertEquals(dayOfSeason, Season.dayOfSeason(absoluteDayDouble), message);
-                }
-            });
+        public void test(int dayOfYear, int year, Random random) {
+            Season season = seasonContaining(dayOfYear);
+            int absoluteDayInt = dayOfYear + year * Season.YEAR_LENGTH_IN_DAYS;
+            double absoluteDayDouble = absoluteDayInt + random.nextDouble();
+
+            String message = String.format("packed day %d of %s (year %d)", dayOfYear, season, year);
+            int packed = Season.packedOnDay(absoluteDayInt);
+            assertSame(season, Season.seasonOf(packed), message);
+            assertEquals(dayOfYear - season.firstDay(), Season.dayOfSeasonOf(packed), message);
+            assertEquals(packed, Season.packedOnDay(absoluteDayDouble), message + " (double)");
         }
     };
     private static final SpecificationLanguage.InfixRelationRule IS_FOLLOWED_BY = new SpecificationLanguage.InfixRelationRule<Season, Season>() {
@@ -154,62 +153,39 @@ public class SeasonTest {
             );
         }
     };
-    private static Random random = new Random(768179104);
-    private static SpecificationLanguage.EnumDomain seasons = new SpecificationLanguage.EnumDomain<>(Season.class);
-    private static SpecificationLanguage.Domain integers = new SpecificationLanguage.Domain<Integer>(Integer.class) {
+    private static final SpecificationLanguage.TwoIntRule LOOKUPS_ARE_CONSISTENT = new SpecificationLanguage.TwoIntRule() {
         @Override
-        public Iterable<Integer> generateUniversalSamples() {
-            Integer[] a = {0, 1, -1, random.nextInt(90000) + 10000, -(random.nextInt(90000)) - 10000};
-
-            return Arrays.asList(a);
+        public void test(int dayOfYear, int year, Random shardRandom) {
+            Season season = seasonContaining(dayOfYear);
+            int absoluteDay = dayOfYear + year * Season.YEAR_LENGTH_IN_DAYS;
+            double absoluteDayDouble = absoluteDay + shardRandom.nextDouble();
+            int packed = Season.packedOnDay(absoluteDay);
+
+            assertEquals(dayOfYear, Season.dayOfCycle(absoluteDay), () -> "day of year of day " + absoluteDay);
+            assertSame(season, Season.onDay(absoluteDay), () -> "season of day " + absoluteDay);
+            assertSame(season, Season.onDay(absoluteDayDouble), () -> "season of day " + absoluteDayDouble);
+            assertEquals(dayOfYear - season.firstDay(), Season.dayOfSeason(absoluteDayDouble), () -> "day of season of day " + absoluteDayDouble);
+            assertSame(season, Season.seasonOf(packed), () -> "packed season of day " + absoluteDay);
+            assertEquals(dayOfYear - season.firstDay(), Season.dayOfSeasonOf(packed), () -> "packed day of season of day " + absoluteDay);
         }
     };
+    private static final long SEED = 768179104;
+    private static SpecificationLanguage.EnumDomain seasons = new SpecificationLanguage.EnumDomain<>(Season.class);
 
     /////////////////////////////////////////////////////////////////
     // specification rule definitions
-    private static SpecificationLanguage.Domain years = integers;
-    private static SpecificationLanguage.Domain daysInYear = new SpecificationLanguage.Domain<Integer>(Integer.class) {
-        @Override
-        public Iterable<Integer> generateUniversalSamples() {
-            return new Iterable<Integer>() {
-                @Override
-                public Iterator<Integer> iterator() {
-                    return new Iterator<Integer>() {
-                        private int counter;
-
-                        @Override
-                        public boolean hasNext() {
-                            return counter < Season.YEAR_LENGTH_IN_DAYS;
-                        }
-
-                        @Override
-                        public Integer next() {
-                            counter++;
-                            return counter;
-                        }
-
-                        @Override
-                        public void remove() {
-                            throw new RuntimeException("Not implemented");
-                        }
-                    };
-                }
-            };
-        }
-    };
-
-    private static SpecificationLanguage.Domain<Integer> daysIn(final Season season) {
-        return new SpecificationLanguage.Domain<Integer>(Integer.class) {
-            @Override
-            public Iterable<Integer> generateUniversalSamples() {
-                List<Integer> days = new ArrayList<>();
-                for (int i = season.firstDay(); i <= season.lastDay(); i++) {
-                    days.add(i);
-                }
-
-                return days;
+    // Small years and two far away from year 0, on either side
+    private static final SpecificationLanguage.IntDomain YEARS = SpecificationLanguage.IntDomain.of(0, 1, -1, 54_321, -76_543);
+    private static final SpecificationLanguage.IntDomain DAYS_IN_YEAR =
+            SpecificationLanguage.IntDomain.range(0, Season.YEAR_LENGTH_IN_DAYS - 1);
+
+    private static Season seasonContaining(int dayOfYear) {
+        for (Season season : Season.values()) {
+            if (dayOfYear >= season.firstDay() && dayOfYear <= season.lastDay()) {
+                return season;
             }
-        };
+        }
+        throw new IllegalArgumentException("No season contains day " + dayOfYear);
     }
 
     @Test
@@ -247,9 +223,18 @@ public class SeasonTest {
 
     @Test
     public void conversionConsistency() {
-        testForAll(daysInYear, years, DAY_OF_CYCLE_IS_INDEPENDENT_OF_YEAR);
+        // Includes the first day of the next year
+        testForAllInParallel(SpecificationLanguage.IntDomain.range(0, Season.YEAR_LENGTH_IN_DAYS), YEARS, SEED,
+                DAY_OF_CYCLE_IS_INDEPENDENT_OF_YEAR);
+
+        testForAllInParallel(DAYS_IN_YEAR, YEARS, SEED, DAY_TO_SEASON_IS_CONSISTENT);
+        testForAllInParallel(DAYS_IN_YEAR, YEARS, SEED, DAY_OF_SEASON_IS_CONSISTENT);
+        testForAllInParallel(DAYS_IN_YEAR, YEARS, SEED, PACKED_LOOKUP_IS_CONSISTENT);
+    }
 
-        testForAll(seasons, years, DAY_TO_SEASON_IS_CONSISTENT);
-        testForAll(seasons, years, DAY_OF_SEASON_IS_CONSISTENT);
+    @Test
+    public void conversionConsistencyOverManyYears() {
+        testForAllInParallel(SpecificationLanguage.IntDomain.range(0, Season.YEAR_LENGTH_IN_DAYS - 1),
+                SpecificationLanguage.IntDomain.range(-100_000, 100_000), SEED, LOOKUPS_ARE_CONSISTENT);
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import java.util.Arrays;
+
+/**
+ * The climate samples and season events recorded by a {@link SeasonSimulator}, stored column-wise in primitive arrays.
+ */
+public class SeasonTimeSeries {
+    /**
+     * Event kind of an {@link org.terasology.seasons.events.OnSeasonChangeEvent}; its values are the indices of the old
+     * and new season and the number of transitions.
+     */
+    public static final int SEASON_CHANGE = 0;
+
+    /**
+     * Event kind of an {@link org.terasology.seasons.events.OnSeasonDayEvent}; its values are the season index, the day
+     * of the season and the absolute day.
+     */
+    public static final int SEASON_DAY = 1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int sampleCount;
+    private long[] sampleTimes = new long[INITIAL_CAPACITY];
+    private float[] temperatures = new float[INITIAL_CAPACITY];
+    private float[] humidities = new float[INITIAL_CAPACITY];
+    private int[] sampleSeasons = new int[INITIAL_CAPACITY];
+
+    private int eventCount;
+    private long[] eventTimes = new long[INITIAL_CAPACITY];
+    private byte[] eventKinds = new byte[INITIAL_CAPACITY];
+    private int[] eventFirst = new int[INITIAL_CAPACITY];
+    private int[] eventSecond = new int[INITIAL_CAPACITY];
+    private long[] eventThird = new long[INITIAL_CAPACITY];
+
+    void addSample(long time, float temperature, float humidity, int seasonIndex) {
+        if (sampleCount == sampleTimes.length) {
+            int capacity = sampleCount * 2;
+            sampleTimes = Arrays.copyOf(sampleTimes, capacity);
+            temperatures = Arrays.copyOf(temperatures, capacity);
+            humidities = Arrays.copyOf(humidities, capacity);
+            sampleSeasons = Arrays.copyOf(sampleSeasons, capacity);
+        }
+        sampleTimes[sampleCount] = time;
+        temperatures[sampleCount] = temperature;
+        humidities[sampleCount] = humidity;
+        sampleSeasons[sampleCount] = seasonIndex;
+        sampleCount++;
+    }
+
+    void addEvent(long time, int kind, int first, int second, long third) {
+        if (eventCount == eventTimes.length) {
+            int capacity = eventCount * 2;
+            eventTimes = Arrays.copyOf(eventTimes, capacity);
+            eventKinds = Arrays.copyOf(eventKinds, capacity);
+            eventFirst = Arrays.copyOf(eventFirst, capacity);
+            eventSecond = Arrays.copyOf(eventSecond, capacity);
+            eventThird = Arrays.copyOf(eventThird, capacity);
+        }
+        eventTimes[eventCount] = time;
+        eventKinds[eventCount] = (byte) kind;
+        eventFirst[eventCount] = first;
+        eventSecond[eventCount] = second;
+        eventThird[eventCount] = third;
+        eventCount++;
+    }
+
+    public int sampleCount() {
+        return sampleCount;
+    }
+
+    public long sampleTime(int i) {
+        return sampleTimes[checkSample(i)];
+    }
+
+    public float temperature(int i) {
+        return temperatures[checkSample(i)];
+    }
+
+    public float humidity(int i) {
+        return humidities[checkSample(i)];
+    }
+
+    public int sampleSeason(int i) {
+        return sampleSeasons[checkSample(i)];
+    }
+
+    public int eventCount() {
+        return eventCount;
+    }
+
+    /**
+     * @param kind {@link #SEASON_CHANGE} or {@link #SEASON_DAY}
+     * @return How many events of that kind were recorded
+     */
+    public int eventCount(int kind) {
+        int count = 0;
+        for (int i = 0; i < eventCount; i++) {
+            if (eventKinds[i] == kind) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long eventTime(int i) {
+        return eventTimes[checkEvent(i)];
+    }
+
+    public int eventKind(int i) {
+        return eventKinds[checkEvent(i)];
+    }
+
+    public int eventFirst(int i) {
+        return eventFirst[checkEvent(i)];
+    }
+
+    public int eventSecond(int i) {
+        return eventSecond[checkEvent(i)];
+    }
+
+    public long eventThird(int i) {
+        return eventThird[checkEvent(i)];
+    }
+
+    /**
+     * @return A copy of the recorded temperature offsets, in sample order
+     */
+    public float[] temperatures() {
+        return Arrays.copyOf(temperatures, sampleCount);
+    }
+
+    /**
+     * @return A copy of the recorded humidity offsets, in sample order
+     */
+    public float[] humidities() {
+        return Arrays.copyOf(humidities, sampleCount);
+    }
+
+    public void clear() {
+        sampleCount = 0;
+        eventCount = 0;
+    }
+
+    private int checkSample(int i) {
+        if (i < 0 || i >= sampleCount) {
+            throw new IndexOutOfBoundsException("Sample " + i + " out of bounds for " + sampleCount + " samples");
+        }
+        return i;
+    }
+
+    private int checkEvent(int i) {
+        if (i < 0 || i >= eventCount) {
+            throw new IndexOutOfBoundsException("Event " + i + " out of bounds for " + eventCount + " events");
+        }
+        return i;
+    }
+}
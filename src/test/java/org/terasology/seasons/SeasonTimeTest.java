@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.world.time.WorldTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of SeasonTime.
+ */
+public class SeasonTimeTest {
+    // About a million default years
+    private static final int FAR_DAY = 24_000_000;
+
+    @Test
+    public void calendarDaysStartAtMidnight() {
+        assertEquals(0, SeasonTime.dayOf(0));
+        assertEquals(0, SeasonTime.dayOf(SeasonTime.MIDNIGHT - 1));
+        assertEquals(1, SeasonTime.dayOf(SeasonTime.MIDNIGHT));
+        assertEquals(0, SeasonTime.dayOf(SeasonTime.MIDNIGHT - WorldTime.DAY_LENGTH));
+        assertEquals(-1, SeasonTime.dayOf(SeasonTime.MIDNIGHT - WorldTime.DAY_LENGTH - 1));
+    }
+
+    @Test
+    public void calendarDaysStartWhenTheEngineFiresMidnight() {
+        // WorldTimeImpl: dawn at 0, midday at 1/4, dusk at 1/2 and midnight at 3/4 of a day
+        long engineMidnight = 3 * WorldTime.DAY_LENGTH / 4;
+        assertEquals(0, SeasonTime.dayOf(engineMidnight - 1));
+        assertEquals(1, SeasonTime.dayOf(engineMidnight));
+        assertEquals(0, SeasonTime.timeOfDay(engineMidnight));
+        assertEquals(engineMidnight, SeasonTime.startOfDay(1));
+        assertEquals(6, SeasonTime.dayOf(5 * WorldTime.DAY_LENGTH + engineMidnight));
+    }
+
+    @Test
+    public void conversionsStayExactInOldWorlds() {
+        for (int day : new int[] {1, 4975, FAR_DAY, FAR_DAY + 1}) {
+            long start = SeasonTime.startOfDay(day);
+            assertEquals(day, SeasonTime.dayOf(start));
+            assertEquals(day - 1, SeasonTime.dayOf(start - 1));
+            assertEquals(0, SeasonTime.timeOfDay(start));
+            assertEquals(day + 0.25, SeasonTime.days(start + WorldTime.DAY_LENGTH / 4));
+        }
+    }
+
+    @Test
+    public void yearProgressFollowsTheCalendar() {
+        SeasonCalendar calendar = SeasonCalendar.DEFAULT;
+        int yearLength = calendar.yearLength();
+        long farYearStart = SeasonTime.startOfDay(FAR_DAY);
+        assertEquals(FAR_DAY / yearLength, SeasonTime.yearOf(farYearStart, calendar));
+        assertEquals(0f, SeasonTime.yearProgress(farYearStart, calendar));
+        assertEquals(0.5f, SeasonTime.yearProgress(SeasonTime.startOfDay(FAR_DAY + yearLength / 2), calendar));
+        float endOfYear = SeasonTime.yearProgress(farYearStart - 1, calendar);
+        assertTrue(endOfYear >= 0 && endOfYear < 1);
+    }
+}
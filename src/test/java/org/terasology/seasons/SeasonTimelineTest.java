@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of SeasonTimeline, checked against stepping through the days one by one.
+ */
+public class SeasonTimelineTest {
+    private static final SeasonCalendar CALENDAR = SeasonCalendar.compile(Arrays.asList(
+            new SeasonDefinition("spring", 4, Season.SPRING),
+            new SeasonDefinition("summer", 7, Season.SUMMER),
+            new SeasonDefinition("monsoon", 2, Season.SUMMER),
+            new SeasonDefinition("never", 0, Season.FALL),
+            new SeasonDefinition("winter", 5, Season.WINTER)));
+    private static final SeasonTimeline TIMELINE = new SeasonTimeline(CALENDAR);
+
+    @Test
+    public void pointQueriesMatchDayByDayStepping() {
+        for (int day = -60; day < 60; day++) {
+            int transition = day + 1;
+            while (CALENDAR.seasonIndexOnDay(transition) == CALENDAR.seasonIndexOnDay(transition - 1)) {
+                transition++;
+            }
+            assertEquals(transition, TIMELINE.nextTransition(day), "day " + day);
+
+            for (Season season : new Season[]{Season.SPRING, Season.SUMMER, Season.WINTER}) {
+                int start = day + 1;
+                while (CALENDAR.onDay(start) != season || CALENDAR.dayOfSeason(start) != 0) {
+                    start++;
+                }
+                assertEquals(start - day, TIMELINE.daysUntil(day, season), season + " from day " + day);
+            }
+        }
+        assertEquals(Integer.MAX_VALUE, TIMELINE.daysUntil(0, Season.FALL));
+    }
+
+    @Test
+    public void rangeQueriesListEveryTransitionInOrder() {
+        int count = 0;
+        int previousDay = -100;
+        for (SeasonTransition transition : TIMELINE.transitions(-100, 100)) {
+            assertTrue(transition.day() > previousDay);
+            assertEquals(0, CALENDAR.dayOfSeason(transition.day()));
+            assertEquals(transition.toIndex(), CALENDAR.seasonIndexOnDay(transition.day()));
+            assertEquals(transition.fromIndex(), CALENDAR.seasonIndexOnDay(transition.day() - 1));
+            previousDay = transition.day();
+            count++;
+        }
+        assertEquals(TIMELINE.countTransitions(-100, 100), count);
+    }
+
+    @Test
+    public void longRangesAreLazy() {
+        Iterator<SeasonTransition> transitions = SeasonTimeline.DEFAULT.transitions(0, Integer.MAX_VALUE - 1).iterator();
+        SeasonTransition first = transitions.next();
+        assertEquals(Season.SUMMER.firstDay(), first.day());
+        assertSame(Season.SPRING, first.from());
+        assertSame(Season.SUMMER, first.to());
+        assertFalse(SeasonTimeline.DEFAULT.transitions(1, 2).iterator().hasNext());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons;
+
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.world.time.WorldTime;
+
+/**
+ * World time that only moves when told to, for running the season system outside of the engine.
+ */
+public class StubWorldTime extends BaseComponentSystem implements WorldTime {
+    private long milliseconds;
+
+    @Override
+    public long getMilliseconds() {
+        return milliseconds;
+    }
+
+    @Override
+    public float getDays() {
+        return MS_TO_DAYS * milliseconds;
+    }
+
+    @Override
+    public float getTimeRate() {
+        return 1.0f;
+    }
+
+    @Override
+    public void setMilliseconds(long time) {
+        milliseconds = time;
+    }
+
+    @Override
+    public void setDays(float timeInDays) {
+        milliseconds = (long) (timeInDays * DAYS_TO_MS);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.curves;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SeasonCurveTest {
+    private static final float EPSILON = 1e-4f;
+    private static final float[] TIMES = {0.1f, 0.4f, 0.6f, 0.9f};
+    private static final float[] VALUES = {-2f, 5f, 1f, 0f};
+
+    @Test
+    public void sineMatchesTheClassicYearlyTemperatureFormula() {
+        SeasonCurve curve = new SineSeasonCurve(7.5f, 1, 0.125f);
+        for (int i = 0; i < 100; i++) {
+            float t = i / 100f;
+            float expected = 7.5f * (float) Math.sin(Math.PI * (t * 2 - 0.25f));
+            assertEquals(expected, curve.evaluate(t), EPSILON, "t = " + t);
+        }
+    }
+
+    @Test
+    public void piecewiseLinearInterpolatesAndWraps() {
+        SeasonCurve curve = new PiecewiseLinearSeasonCurve(TIMES, VALUES);
+        for (int i = 0; i < TIMES.length; i++) {
+            assertEquals(VALUES[i], curve.evaluate(TIMES[i]), EPSILON);
+        }
+        assertEquals(1.5f, curve.evaluate(0.25f), EPSILON);
+        // halfway between the last keyframe (0.9) and the first keyframe of the next year (1.1)
+        assertEquals(-1f, curve.evaluate(0.0f), EPSILON);
+        assertEquals(curve.evaluate(0.3f), curve.evaluate(1.3f), EPSILON);
+    }
+
+    @Test
+    public void keyframeCurvePassesThroughKeyframesAndIsContinuousAtTheTurnOfTheYear() {
+        SeasonCurve curve = new KeyframeSeasonCurve(TIMES, VALUES);
+        for (int i = 0; i < TIMES.length; i++) {
+            assertEquals(VALUES[i], curve.evaluate(TIMES[i]), EPSILON);
+        }
+        assertEquals(curve.evaluate(0.99999f), curve.evaluate(0f), 1e-3f);
+    }
+
+    @Test
+    public void compiledCurveMatchesTheKeyframeCurve() {
+        KeyframeSeasonCurve curve = new KeyframeSeasonCurve(TIMES, VALUES);
+        SeasonCurve compiled = curve.compile();
+        for (int i = -100; i < 300; i++) {
+            float t = i / 200f;
+            assertEquals(curve.evaluate(t), compiled.evaluate(t), EPSILON, "t = " + t);
+        }
+    }
+
+    @Test
+    public void compiledCurveFollowsGivenTangents() {
+        // Exact slopes of the sine at eight keyframes give a close cubic approximation of it
+        float[] times = new float[8];
+        float[] values = new float[8];
+        float[] tangents = new float[8];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = i / 8f;
+            double angle = 2 * Math.PI * (times[i] - 0.125);
+            values[i] = 7.5f * (float) Math.sin(angle);
+            tangents[i] = 7.5f * (float) (2 * Math.PI * Math.cos(angle));
+        }
+        SeasonCurve sine = new SineSeasonCurve(7.5f, 1, 0.125f);
+        SeasonCurve compiled = CompiledSeasonCurve.compile(times, values, tangents);
+        for (int i = 0; i < 1000; i++) {
+            float t = i / 1000f;
+            assertEquals(sine.evaluate(t), compiled.evaluate(t), 0.01f, "t = " + t);
+        }
+    }
+
+    @Test
+    public void compiledCurveFindsShortSegments() {
+        float[] times = {0f, 0.5f, 0.5001f, 0.5002f};
+        float[] values = {0f, 1f, 2f, 3f};
+        SeasonCurve curve = new PiecewiseLinearSeasonCurve(times, values);
+        SeasonCurve compiled = CompiledSeasonCurve.compile(times, values, new float[4]);
+        for (float t : times) {
+            assertEquals(curve.evaluate(t), compiled.evaluate(t), EPSILON, "t = " + t);
+        }
+    }
+
+    @Test
+    public void keyframesMustBeOrderedWithinTheYear() {
+        assertThrows(IllegalArgumentException.class, () -> new PiecewiseLinearSeasonCurve(new float[]{0.5f, 0.2f}, new float[]{0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new KeyframeSeasonCurve(new float[]{0.5f, 1.0f}, new float[]{0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> new KeyframeSeasonCurve(new float[]{0.5f}, new float[]{0, 1}));
+    }
+}
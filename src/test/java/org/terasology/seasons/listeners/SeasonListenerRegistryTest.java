@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.listeners;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.seasons.Season;
+import org.terasology.seasons.events.OnSeasonChangeEvent;
+import org.terasology.seasons.events.OnSeasonDayEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of SeasonListenerRegistry.
+ */
+public class SeasonListenerRegistryTest {
+    private long now;
+    private final SeasonListenerRegistry registry = new SeasonListenerRegistry(() -> now);
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    public void deliveriesHappenWhenRequested() {
+        registry.register("immediate", OnSeasonChangeEvent.class, SeasonDelivery.IMMEDIATE, e -> calls.add("immediate"));
+        registry.register("nextTick", OnSeasonChangeEvent.class, SeasonDelivery.NEXT_TICK, e -> calls.add("nextTick"));
+        registry.register("days", OnSeasonDayEvent.class, SeasonDelivery.IMMEDIATE, e -> calls.add("days"));
+
+        registry.dispatch(new OnSeasonChangeEvent(Season.SPRING, Season.SUMMER));
+        assertEquals(List.of("immediate"), calls);
+        assertEquals(1, registry.pendingCount());
+
+        assertEquals(1, registry.deliverPending());
+        assertEquals(List.of("immediate", "nextTick"), calls);
+        assertEquals(0, registry.deliverPending());
+    }
+
+    @Test
+    public void budgetedDeliveriesAreSpreadOverTicks() {
+        registry.setBudget(15);
+        // Every call takes 10 ns, so the budget runs out after the second one
+        registry.register("slow", OnSeasonChangeEvent.class, SeasonDelivery.BUDGETED, e -> {
+            calls.add("slow");
+            now += 10;
+        });
+        for (int i = 0; i < 5; i++) {
+            registry.dispatch(new OnSeasonChangeEvent(Season.SPRING, Season.SUMMER));
+        }
+        assertEquals(0, calls.size());
+        assertEquals(2, registry.deliverPending());
+        assertEquals(2, registry.deliverPending());
+        assertEquals(1, registry.deliverPending());
+        assertEquals(5, calls.size());
+        assertEquals(50, registry.getRegistrations().get(0).getTotalNanos());
+        assertEquals(10, registry.getRegistrations().get(0).getMaxNanos());
+    }
+
+    @Test
+    public void unregisteredListenersGetNoPendingEvents() {
+        SeasonListenerRegistration<OnSeasonChangeEvent> registration =
+                registry.register("late", OnSeasonChangeEvent.class, SeasonDelivery.NEXT_TICK, e -> calls.add("late"));
+        registry.dispatch(new OnSeasonChangeEvent(Season.SPRING, Season.SUMMER));
+        registration.unregister();
+        registry.deliverPending();
+        assertEquals(0, calls.size());
+        assertTrue(registry.getRegistrations().isEmpty());
+    }
+
+    @Test
+    public void failingListenersAreTimedAndDoNotStopOthers() {
+        SeasonListenerRegistration<OnSeasonChangeEvent> failing = registry.register("failing", OnSeasonChangeEvent.class,
+                SeasonDelivery.IMMEDIATE, e -> {
+                    throw new IllegalStateException("listener failure");
+                });
+        SeasonListenerRegistration<OnSeasonChangeEvent> working = registry.register("working", OnSeasonChangeEvent.class,
+                SeasonDelivery.IMMEDIATE, e -> calls.add("working"));
+        registry.dispatch(new OnSeasonChangeEvent(Season.SPRING, Season.SUMMER));
+
+        assertEquals(List.of("working"), calls);
+        assertEquals(1, failing.getInvocations());
+        assertEquals(1, working.getInvocations());
+        assertTrue(working.getMaxNanos() >= 0 && working.getTotalNanos() == working.getMaxNanos());
+    }
+}
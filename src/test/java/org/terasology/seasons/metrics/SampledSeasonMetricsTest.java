@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SampledSeasonMetricsTest {
+
+    @Test
+    public void countsEveryInvocationAndSamplesAll() {
+        SampledSeasonMetrics metrics = new SampledSeasonMetrics(0);
+        for (int i = 0; i < 1000; i++) {
+            long start = metrics.begin(SeasonProbe.TEMPERATURE_MODIFIER);
+            metrics.end(SeasonProbe.TEMPERATURE_MODIFIER, start);
+        }
+
+        SeasonMetricsSnapshot.ProbeSnapshot probe = metrics.snapshot().get(SeasonProbe.TEMPERATURE_MODIFIER);
+        assertEquals(1000, probe.invocations());
+        assertEquals(1000, probe.samples());
+        assertTrue(probe.percentileNanos(50) <= probe.percentileNanos(99));
+        assertEquals(0, metrics.snapshot().get(SeasonProbe.MIDNIGHT).invocations());
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().get(SeasonProbe.TEMPERATURE_MODIFIER).invocations());
+        assertEquals(0, metrics.snapshot().get(SeasonProbe.TEMPERATURE_MODIFIER).samples());
+    }
+
+    @Test
+    public void histogramBucketsArePowersOfTwo() {
+        assertEquals(0, SampledSeasonMetrics.bucket(0));
+        assertEquals(0, SampledSeasonMetrics.bucket(1));
+        assertEquals(1, SampledSeasonMetrics.bucket(3));
+        assertEquals(10, SampledSeasonMetrics.bucket(1024));
+        assertEquals(62, SampledSeasonMetrics.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void noOpRecordsNothing() {
+        long start = SeasonMetrics.NO_OP.begin(SeasonProbe.MIDNIGHT);
+        SeasonMetrics.NO_OP.end(SeasonProbe.MIDNIGHT, start);
+        assertEquals(SeasonMetrics.NOT_SAMPLED, start);
+        assertSame(SeasonMetricsSnapshot.EMPTY, SeasonMetrics.NO_OP.snapshot());
+    }
+}
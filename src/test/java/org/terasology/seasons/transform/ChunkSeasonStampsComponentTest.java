@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.transform;
+
+import org.joml.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test of ChunkSeasonStampsComponent.
+ */
+public class ChunkSeasonStampsComponentTest {
+    @Test
+    public void unloadedChunksAreLoadedWithTheirStamp() {
+        SeasonTransformQueue queue = new SeasonTransformQueue();
+        ChunkSeasonStampsComponent stored = new ChunkSeasonStampsComponent();
+        Vector3i upToDate = new Vector3i(-3, 0, 7);
+        Vector3i behind = new Vector3i(3, 0, 7);
+        queue.setVersion(4);
+        queue.load(upToDate, 4);
+        queue.load(behind, 2);
+        stored.setStamp(upToDate, queue.unload(upToDate));
+        stored.setStamp(behind, queue.unload(behind));
+
+        ChunkSeasonStampsComponent saved = new ChunkSeasonStampsComponent();
+        saved.copyFrom(stored);
+        assertEquals(2, saved.stamps.size());
+        queue.load(upToDate, saved.take(upToDate));
+        queue.load(behind, saved.take(behind));
+        assertEquals(1, queue.staleCount());
+        assertEquals(2, queue.stampOf(behind));
+
+        // Loaded chunks have no entry, so the map only holds unloaded chunks
+        assertTrue(saved.stamps.isEmpty());
+        assertEquals(SeasonTransformQueue.NEVER, saved.take(behind));
+        saved.setStamp(behind, queue.unload(behind));
+        saved.setStamp(upToDate, SeasonTransformQueue.NEVER);
+        assertEquals(1, saved.stamps.size());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.seasons.transform;
+
+import org.joml.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test of SeasonTransformQueue.
+ */
+public class SeasonTransformQueueTest {
+    private static final long NO_TIME_LIMIT = Long.MAX_VALUE;
+
+    private final List<Vector3i> transformed = new ArrayList<>();
+    private final List<Long> fromVersions = new ArrayList<>();
+    private long now;
+    private final List<ChunkTransformer> transformers = Collections.singletonList((pos, from, state) -> {
+        transformed.add(new Vector3i(pos.x(), pos.y(), pos.z()));
+        fromVersions.add(from);
+        now += 10;
+    });
+
+    @Test
+    public void seasonChangeOnlyMarksChunksStale() {
+        SeasonTransformQueue queue = loadedRow(10);
+        queue.setVersion(1);
+        assertEquals(10, queue.staleCount());
+        assertEquals(0, transformed.size());
+
+        assertEquals(3, queue.process(transformers, null, new int[0], 0, 3, NO_TIME_LIMIT));
+        assertEquals(7, queue.staleCount());
+        while (queue.process(transformers, null, new int[0], 0, 3, NO_TIME_LIMIT) > 0) {
+            // drain the queue
+        }
+        assertEquals(10, transformed.size());
+        assertEquals(1, queue.stampOf(new Vector3i(4, 0, 0)));
+    }
+
+    @Test
+    public void chunksNearestToPlayersComeFirst() {
+        SeasonTransformQueue queue = loadedRow(10);
+        queue.setVersion(1);
+        int[] players = {7, 0, 0, 0, 0, 0};
+
+        queue.process(transformers, null, players, 2, 4, NO_TIME_LIMIT);
+        assertEquals(4, transformed.size());
+        assertEquals(0, Math.min(distance(transformed.get(0), 7), distance(transformed.get(0), 0)));
+        assertEquals(0, Math.min(distance(transformed.get(1), 7), distance(transformed.get(1), 0)));
+        assertEquals(1, Math.min(distance(transformed.get(2), 7), distance(transformed.get(2), 0)));
+        assertEquals(1, Math.min(distance(transformed.get(3), 7), distance(transformed.get(3), 0)));
+    }
+
+    @Test
+    public void timeBudgetStillTransformsOneChunk() {
+        SeasonTransformQueue queue = new SeasonTransformQueue(() -> now);
+        for (int x = 0; x < 5; x++) {
+            queue.load(new Vector3i(x, 0, 0));
+        }
+        queue.setVersion(1);
+        // Every chunk takes 10 ns, so the budget runs out after the first and third chunk
+        assertEquals(1, queue.process(transformers, null, new int[0], 0, 5, 1));
+        assertEquals(2, queue.process(transformers, null, new int[0], 0, 5, 20));
+        assertEquals(2, queue.staleCount());
+    }
+
+    @Test
+    public void laterLoadedChunksCatchUpFromTheirStamp() {
+        SeasonTransformQueue queue = loadedRow(2);
+        queue.setVersion(5);
+        queue.load(new Vector3i(0, 1, 0), 3);
+        queue.load(new Vector3i(0, 2, 0), 5);
+        assertEquals(3, queue.staleCount());
+
+        int[] player = {0, 1, 0};
+        queue.process(transformers, null, player, 1, 1, NO_TIME_LIMIT);
+        assertEquals(1, transformed.get(0).y);
+        assertEquals(3L, (long) fromVersions.get(0));
+
+        assertEquals(5, queue.unload(new Vector3i(0, 1, 0)));
+        assertEquals(SeasonTransformQueue.NEVER, queue.unload(new Vector3i(1, 0, 0)));
+        assertEquals(1, queue.staleCount());
+    }
+
+    private static SeasonTransformQueue loadedRow(int length) {
+        SeasonTransformQueue queue = new SeasonTransformQueue();
+        for (int x = 0; x < length; x++) {
+            queue.load(new Vector3i(x, 0, 0));
+        }
+        return queue;
+    }
+
+    private static int distance(Vector3i pos, int x) {
+        return Math.abs(pos.x - x);
+    }
+}
@@ -16,6 +16,11 @@
 package org.terasology.specificationLanguage;
 
 import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -23,8 +28,16 @@ import static org.junit.jupiter.api.Assertions.fail;
 /**
  * @author DizzyDragon
  * Simple, lightweight specification language embedded in JUnit.
+ * <p>
+ * Rules over {@link IntDomain}s can be tested in parallel with {@code testForAllInParallel}, which splits the cross
+ * product of the domains into shards on a fork-join pool. Every shard gets its own {@link Random}, seeded from the seed
+ * of the test and the index of the shard, so a run is reproducible however the shards are scheduled.
  */
 public final class SpecificationLanguage {
+    /**
+     * Number of samples in a shard; fixed, so the random numbers a sample sees don't depend on the parallelism.
+     */
+    static final int SHARD_SIZE = 4096;
 
     private SpecificationLanguage() {
         // Empty private constructor for utility class
@@ -89,6 +102,32 @@ public final class SpecificationLanguage {
         }
     }
 
+    /**
+     * Tests a rule for every sample of a domain, in parallel.
+     *
+     * @param domain The samples
+     * @param seed The seed of the random numbers handed to the rule
+     * @param rule The rule to test
+     */
+    public static void testForAllInParallel(IntDomain domain, long seed, IntRule rule) {
+        testForAllInParallel(domain, IntDomain.of(0), seed, (a, b, random) -> rule.test(a, random));
+    }
+
+    /**
+     * Tests a rule for every pair of samples of two domains, in parallel. If the rule fails, the failure of the smallest
+     * sample is reported, i.e. the one closest to zero, so the message doesn't depend on which shard failed first.
+     *
+     * @param domainA The first samples
+     * @param domainB The second samples
+     * @param seed The seed of the random numbers handed to the rule
+     * @param rule The rule to test
+     */
+    public static void testForAllInParallel(IntDomain domainA, IntDomain domainB, long seed, TwoIntRule rule) {
+        ParallelRun run = new ParallelRun(domainA, domainB, seed, rule);
+        ForkJoinPool.commonPool().invoke(new ShardTask(run, 0, (long) domainA.size() * domainB.size()));
+        run.report();
+    }
+
     public static <T extends Enum<T>> void testExists(EnumDomain<T> domain, InstanceRule<T> rule) {
 
         for (T instance : domain.generateUniversalSamples()) {
@@ -140,6 +179,14 @@ public final class SpecificationLanguage {
     public interface InfixRelationRule<A, B> extends TwoInstanceRule<A, B> {
     }
 
+    public interface IntRule {
+        void test(int instance, Random random);
+    }
+
+    public interface TwoIntRule {
+        void test(int instanceA, int instanceB, Random random);
+    }
+
     //////////////////////////////////////
     // Domain types
     public abstract static class Domain<T> {
@@ -165,4 +212,158 @@ public final class SpecificationLanguage {
             return Arrays.asList((T[]) underlyingClass.getEnumConstants());
         }
     }
+
+    /**
+     * A domain of int samples that are computed from their index rather than stored boxed.
+     */
+    public abstract static class IntDomain {
+
+        /**
+         * @param from The smallest sample
+         * @param to The largest sample, inclusive
+         * @return The domain of all ints from {@code from} to {@code to}
+         */
+        public static IntDomain range(final int from, final int to) {
+            if (to < from || (long) to - from >= Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid range " + from + ".." + to);
+            }
+            return new IntDomain() {
+                @Override
+                public int size() {
+                    return to - from + 1;
+                }
+
+                @Override
+                public int sample(int index) {
+                    return from + index;
+                }
+            };
+        }
+
+        /**
+         * @param samples The samples
+         * @return The domain of exactly these samples
+         */
+        public static IntDomain of(int... samples) {
+            final int[] copy = samples.clone();
+            return new IntDomain() {
+                @Override
+                public int size() {
+                    return copy.length;
+                }
+
+                @Override
+                public int sample(int index) {
+                    return copy[index];
+                }
+            };
+        }
+
+        public abstract int size();
+
+        public abstract int sample(int index);
+    }
+
+    /**
+     * The state of a parallel test shared by its shards: the rule and the smallest failure found so far.
+     */
+    private static final class ParallelRun {
+        private final IntDomain domainA;
+        private final IntDomain domainB;
+        private final long seed;
+        private final TwoIntRule rule;
+        private final AtomicReference<Failure> smallestFailure = new AtomicReference<>();
+        private final AtomicLong failures = new AtomicLong();
+
+        ParallelRun(IntDomain domainA, IntDomain domainB, long seed, TwoIntRule rule) {
+            this.domainA = domainA;
+            this.domainB = domainB;
+            this.seed = seed;
+            this.rule = rule;
+        }
+
+        void runShard(long from, long to) {
+            Random random = new Random(shardSeed(seed, from / SHARD_SIZE));
+            int sizeB = domainB.size();
+            for (long index = from; index < to; index++) {
+                int a = domainA.sample((int) (index / sizeB));
+                int b = domainB.sample((int) (index % sizeB));
+                try {
+                    rule.test(a, b, random);
+                } catch (AssertionError | RuntimeException e) {
+                    failures.incrementAndGet();
+                    Failure failure = new Failure(a, b, e);
+                    smallestFailure.accumulateAndGet(failure, (x, y) -> x == null || y.isSmallerThan(x) ? y : x);
+                }
+            }
+        }
+
+        void report() {
+            Failure failure = smallestFailure.get();
+            if (failure != null) {
+                long samples = (long) domainA.size() * domainB.size();
+                throw new AssertionError(String.format("Failed for (%d, %d), %d of %d samples failed: %s",
+                        failure.a, failure.b, failures.get(), samples, failure.cause.getMessage()), failure.cause);
+            }
+        }
+
+        private static long shardSeed(long seed, long shard) {
+            long z = seed + (shard + 1) * 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    private static final class Failure {
+        private final int a;
+        private final int b;
+        private final Throwable cause;
+
+        Failure(int a, int b, Throwable cause) {
+            this.a = a;
+            this.b = b;
+            this.cause = cause;
+        }
+
+        /**
+         * Orders failures by the distance of their samples from zero, then by the samples themselves.
+         */
+        boolean isSmallerThan(Failure other) {
+            long size = Math.abs((long) a) + Math.abs((long) b);
+            long otherSize = Math.abs((long) other.a) + Math.abs((long) other.b);
+            if (size != otherSize) {
+                return size < otherSize;
+            }
+            return a != other.a ? a < other.a : b < other.b;
+        }
+    }
+
+    /**
+     * Splits a range of sample indices at shard boundaries until a single shard is left.
+     */
+    private static final class ShardTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ParallelRun run;
+        private final long from;
+        private final long to;
+
+        ShardTask(ParallelRun run, long from, long to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            long shards = (to - from + SHARD_SIZE - 1) / SHARD_SIZE;
+            if (shards <= 1) {
+                run.runShard(from, to);
+                return;
+            }
+            long middle = from + shards / 2 * SHARD_SIZE;
+            invokeAll(new ShardTask(run, from, middle), new ShardTask(run, middle, to));
+        }
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.specificationLanguage;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.specificationLanguage.SpecificationLanguage.IntDomain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.terasology.specificationLanguage.SpecificationLanguage.testForAllInParallel;
+
+public class SpecificationLanguageTest {
+
+    @Test
+    public void parallelRunVisitsEveryPairOnce() {
+        LongAdder count = new LongAdder();
+        LongAdder sum = new LongAdder();
+        testForAllInParallel(IntDomain.range(-500, 499), IntDomain.range(0, 99), 1, (a, b, random) -> {
+            count.increment();
+            sum.add(a * 1000L + b);
+        });
+        assertEquals(100_000, count.sum());
+        assertEquals(100 * 1000L * -500 + 1000L * 4950, sum.sum());
+    }
+
+    @Test
+    public void failureReportsTheSmallestSample() {
+        AssertionError error = assertThrows(AssertionError.class, () ->
+                testForAllInParallel(IntDomain.range(-100_000, 100_000), 7, (a, random) -> {
+                    if (Math.abs(a) >= 777) {
+                        throw new AssertionError("too far");
+                    }
+                }));
+        assertTrue(error.getMessage().startsWith("Failed for (-777, 0)"), error.getMessage());
+        assertTrue(error.getMessage().contains("198448 of 200001 samples failed"), error.getMessage());
+    }
+
+    @Test
+    public void randomNumbersDependOnlyOnTheSeed() {
+        assertEquals(randomSum(42), randomSum(42));
+        assertTrue(randomSum(42) != randomSum(43));
+    }
+
+    private static long randomSum(long seed) {
+        AtomicLong sum = new AtomicLong();
+        testForAllInParallel(IntDomain.range(0, 50_000), seed, (a, random) -> sum.addAndGet(random.nextInt(1000) * (long) a));
+        return sum.get();
+    }
+}